@@ -0,0 +1,244 @@
+package com.github.alessandrobagnoli.taxcodeconverter.arrow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import lombok.RequiredArgsConstructor;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider.MapDictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Converts whole Arrow record batches, column by column, for the callers holding their data in Arrow or Parquet. The
+ * columns are named after the properties of the JSON API: strings are {@code Utf8} vectors, the gender included, and
+ * dates are {@code Date(DAY)} vectors. Each output batch has as many rows as the input one, in the same order, and a
+ * nullable {@value #ERROR} column set on the rows that could not be converted. A batch missing one of the input
+ * columns fails as a whole with an {@link InvalidBatchException}. Genders are matched ignoring case, and the rows of an
+ * unspecified gender or of a date of birth not in the past fail as in the JSON API.
+ */
+@RequiredArgsConstructor
+public class ArrowTaxCodeConverter {
+
+  public static final String MEDIA_TYPE = "application/vnd.apache.arrow.stream";
+
+  public static final String GENDER = "gender";
+  public static final String NAME = "name";
+  public static final String SURNAME = "surname";
+  public static final String DATE_OF_BIRTH = "dateOfBirth";
+  public static final String BIRTH_PLACE = "birthPlace";
+  public static final String PROVINCE = "province";
+  public static final String COUNTRY = "country";
+  public static final String TAX_CODE = "taxCode";
+  public static final String ERROR = "error";
+
+  public static final Schema TAX_CODE_SCHEMA = new Schema(List.of(
+      Field.nullable(TAX_CODE, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ERROR, ArrowType.Utf8.INSTANCE)));
+
+  public static final Schema PERSON_DATA_SCHEMA = new Schema(List.of(
+      Field.nullable(TAX_CODE, ArrowType.Utf8.INSTANCE),
+      Field.nullable(GENDER, ArrowType.Utf8.INSTANCE),
+      Field.nullable(NAME, ArrowType.Utf8.INSTANCE),
+      Field.nullable(SURNAME, ArrowType.Utf8.INSTANCE),
+      Field.nullable(DATE_OF_BIRTH, new ArrowType.Date(DateUnit.DAY)),
+      Field.nullable(BIRTH_PLACE, ArrowType.Utf8.INSTANCE),
+      Field.nullable(PROVINCE, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ERROR, ArrowType.Utf8.INSTANCE)));
+
+  private final TaxCodeCalculator calculator;
+
+  /**
+   * @param persons - the {@value #GENDER}, {@value #NAME}, {@value #SURNAME}, {@value #DATE_OF_BIRTH},
+   *                {@value #BIRTH_PLACE} and {@value #PROVINCE} columns, and optionally {@value #COUNTRY}
+   * @return a batch of {@link #TAX_CODE_SCHEMA}, to be closed by the caller
+   */
+  public VectorSchemaRoot calculateTaxCodes(VectorSchemaRoot persons, BufferAllocator allocator) {
+    var result = VectorSchemaRoot.create(TAX_CODE_SCHEMA, allocator);
+    try {
+      fillTaxCodes(persons, result);
+      return result;
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @param taxCodes - the {@value #TAX_CODE} column
+   * @return a batch of {@link #PERSON_DATA_SCHEMA}, to be closed by the caller
+   */
+  public VectorSchemaRoot reverseTaxCodes(VectorSchemaRoot taxCodes, BufferAllocator allocator) {
+    var result = VectorSchemaRoot.create(PERSON_DATA_SCHEMA, allocator);
+    try {
+      fillPersonData(taxCodes, result);
+      return result;
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Converts an Arrow IPC stream of persons batch by batch, see {@link #calculateTaxCodes(VectorSchemaRoot,
+   * BufferAllocator)}, closing both the streams.
+   */
+  public void calculateTaxCodes(InputStream persons, OutputStream taxCodes, BufferAllocator allocator)
+      throws IOException {
+    convert(persons, taxCodes, allocator, TAX_CODE_SCHEMA, this::fillTaxCodes);
+  }
+
+  /**
+   * Converts an Arrow IPC stream of tax codes batch by batch, see {@link #reverseTaxCodes(VectorSchemaRoot,
+   * BufferAllocator)}, closing both the streams.
+   */
+  public void reverseTaxCodes(InputStream taxCodes, OutputStream persons, BufferAllocator allocator)
+      throws IOException {
+    convert(taxCodes, persons, allocator, PERSON_DATA_SCHEMA, this::fillPersonData);
+  }
+
+  private static void convert(InputStream input, OutputStream output, BufferAllocator allocator, Schema schema,
+      BiConsumer<VectorSchemaRoot, VectorSchemaRoot> conversion) throws IOException {
+    try (var reader = new ArrowStreamReader(input, allocator);
+         var result = VectorSchemaRoot.create(schema, allocator);
+         var writer = new ArrowStreamWriter(result, new MapDictionaryProvider(), output)) {
+      writer.start();
+      while (reader.loadNextBatch()) {
+        conversion.accept(reader.getVectorSchemaRoot(), result);
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+  }
+
+  private void fillTaxCodes(VectorSchemaRoot persons, VectorSchemaRoot result) {
+    var genders = vector(persons, GENDER, VarCharVector.class);
+    var names = vector(persons, NAME, VarCharVector.class);
+    var surnames = vector(persons, SURNAME, VarCharVector.class);
+    var datesOfBirth = vector(persons, DATE_OF_BIRTH, DateDayVector.class);
+    var birthPlaces = vector(persons, BIRTH_PLACE, VarCharVector.class);
+    var provinces = vector(persons, PROVINCE, VarCharVector.class);
+    var countries = persons.getVector(COUNTRY) == null ? null : vector(persons, COUNTRY, VarCharVector.class);
+    result.allocateNew();
+    var taxCodes = (VarCharVector) result.getVector(TAX_CODE);
+    var errors = (VarCharVector) result.getVector(ERROR);
+    var rows = persons.getRowCount();
+    for (var i = 0; i < rows; i++) {
+      try {
+        var country = countries == null ? null : string(countries, i);
+        var taxCode = calculator.calculateTaxCode(CalculateTaxCodeRequest.builder()
+            .gender(gender(required(genders, i)))
+            .name(required(names, i))
+            .surname(required(surnames, i))
+            .dateOfBirth(LocalDate.ofEpochDay(required(datesOfBirth, i)))
+            .birthPlace(country == null ? required(birthPlaces, i) : null)
+            .province(country == null ? required(provinces, i) : null)
+            .country(country)
+            .build());
+        taxCodes.setSafe(i, taxCode.getBytes(StandardCharsets.US_ASCII));
+      } catch (RuntimeException e) {
+        setError(errors, i, e);
+      }
+    }
+    result.setRowCount(rows);
+  }
+
+  private void fillPersonData(VectorSchemaRoot taxCodes, VectorSchemaRoot result) {
+    var input = vector(taxCodes, TAX_CODE, VarCharVector.class);
+    result.allocateNew();
+    var outputTaxCodes = (VarCharVector) result.getVector(TAX_CODE);
+    var genders = (VarCharVector) result.getVector(GENDER);
+    var names = (VarCharVector) result.getVector(NAME);
+    var surnames = (VarCharVector) result.getVector(SURNAME);
+    var datesOfBirth = (DateDayVector) result.getVector(DATE_OF_BIRTH);
+    var birthPlaces = (VarCharVector) result.getVector(BIRTH_PLACE);
+    var provinces = (VarCharVector) result.getVector(PROVINCE);
+    var errors = (VarCharVector) result.getVector(ERROR);
+    var rows = taxCodes.getRowCount();
+    for (var i = 0; i < rows; i++) {
+      try {
+        var taxCode = string(input, i);
+        var validity = TaxCodeValidator.validate(taxCode);
+        if (validity != TaxCodeValidity.VALID) {
+          throw new IllegalArgumentException("invalid taxCode: " + validity);
+        }
+        var person = calculator.reverseTaxCode(taxCode);
+        outputTaxCodes.setSafe(i, utf8(person.taxCode()));
+        genders.setSafe(i, utf8(person.gender().name()));
+        names.setSafe(i, utf8(person.name()));
+        surnames.setSafe(i, utf8(person.surname()));
+        datesOfBirth.setSafe(i, Math.toIntExact(person.dateOfBirth().toEpochDay()));
+        birthPlaces.setSafe(i, utf8(person.birthPlace()));
+        provinces.setSafe(i, utf8(person.province()));
+      } catch (RuntimeException e) {
+        setError(errors, i, e);
+      }
+    }
+    result.setRowCount(rows);
+  }
+
+  private static <V extends FieldVector> V vector(VectorSchemaRoot root, String name, Class<V> type) {
+    var vector = root.getVector(name);
+    if (!type.isInstance(vector)) {
+      throw new InvalidBatchException(String.format("The column %s is missing or is not a %s", name,
+          type.getSimpleName()));
+    }
+    return type.cast(vector);
+  }
+
+  private static String string(VarCharVector vector, int index) {
+    return vector.isNull(index) ? null : new String(vector.get(index), StandardCharsets.UTF_8);
+  }
+
+  private static String required(VarCharVector vector, int index) {
+    var value = string(vector, index);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("missing required property " + vector.getName());
+    }
+    return value;
+  }
+
+  private static int required(DateDayVector vector, int index) {
+    if (vector.isNull(index)) {
+      throw new IllegalArgumentException("missing required property " + vector.getName());
+    }
+    return vector.get(index);
+  }
+
+  private static Gender gender(String value) {
+    try {
+      return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("invalid gender " + value);
+    }
+  }
+
+  private static byte[] utf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  // the rows of the other columns are left null
+  private static void setError(VarCharVector errors, int index, RuntimeException e) {
+    errors.setSafe(index, utf8(e.getMessage() == null ? e.toString() : e.getMessage()));
+  }
+
+}
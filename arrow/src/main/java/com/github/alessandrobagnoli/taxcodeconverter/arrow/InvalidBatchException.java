@@ -0,0 +1,13 @@
+package com.github.alessandrobagnoli.taxcodeconverter.arrow;
+
+/**
+ * Thrown when a record batch lacks a column, or has it of another type, so that none of its rows can be converted.
+ * Like a request that is not valid, it is an expected answer and carries no stack trace.
+ */
+public class InvalidBatchException extends RuntimeException {
+
+  public InvalidBatchException(String message) {
+    super(message, null, false, false);
+  }
+
+}
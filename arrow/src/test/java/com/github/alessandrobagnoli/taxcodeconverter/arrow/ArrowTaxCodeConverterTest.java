@@ -0,0 +1,219 @@
+package com.github.alessandrobagnoli.taxcodeconverter.arrow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider.MapDictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArrowTaxCodeConverterTest {
+
+  private static final Schema PERSONS_SCHEMA = new Schema(List.of(
+      Field.nullable(ArrowTaxCodeConverter.GENDER, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ArrowTaxCodeConverter.NAME, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ArrowTaxCodeConverter.SURNAME, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ArrowTaxCodeConverter.DATE_OF_BIRTH, new ArrowType.Date(DateUnit.DAY)),
+      Field.nullable(ArrowTaxCodeConverter.BIRTH_PLACE, ArrowType.Utf8.INSTANCE),
+      Field.nullable(ArrowTaxCodeConverter.PROVINCE, ArrowType.Utf8.INSTANCE)));
+
+  private final ArrowTaxCodeConverter underTest = new ArrowTaxCodeConverter(TaxCodeCalculator.create(
+      Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC)));
+
+  private BufferAllocator allocator;
+
+  @BeforeEach
+  void setUp() {
+    allocator = new RootAllocator();
+  }
+
+  @AfterEach
+  void tearDown() {
+    // fails when a test leaks a buffer
+    allocator.close();
+  }
+
+  @Test
+  void calculateTaxCodesShouldConvertEachRow() {
+    // given
+    try (var persons = persons("Alessandro", "")) {
+
+      // when
+      try (var actual = underTest.calculateTaxCodes(persons, allocator)) {
+
+        // then
+        assertThat(actual.getSchema()).isEqualTo(ArrowTaxCodeConverter.TAX_CODE_SCHEMA);
+        assertThat(actual.getRowCount()).isEqualTo(2);
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 0)).isEqualTo("BGNLSN93P19H294L");
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 0)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 1)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 1)).isEqualTo("missing required property name");
+      }
+    }
+  }
+
+  @Test
+  void calculateTaxCodesShouldFailTheRowsTheJsonApiRejects() {
+    // given
+    try (var persons = persons(
+        new Person("male", "Alessandro", LocalDate.of(1993, 9, 19)),
+        new Person("UNSPECIFIED", "Alessandro", LocalDate.of(1993, 9, 19)),
+        new Person("MALE", "Alessandro", LocalDate.of(2024, 5, 1)))) {
+
+      // when
+      try (var actual = underTest.calculateTaxCodes(persons, allocator)) {
+
+        // then
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 0)).isEqualTo("BGNLSN93P19H294L");
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 0)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 1)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 1)).isEqualTo("invalid gender UNSPECIFIED");
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 2)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 2)).isEqualTo("invalid dateOfBirth 2024-05-01");
+      }
+    }
+  }
+
+  @Test
+  void calculateTaxCodesShouldRejectABatchMissingAColumn() {
+    // given
+    try (var persons = VectorSchemaRoot.create(new Schema(List.of(
+        Field.nullable(ArrowTaxCodeConverter.GENDER, ArrowType.Utf8.INSTANCE))), allocator)) {
+
+      // when
+      // then
+      assertThatThrownBy(() -> underTest.calculateTaxCodes(persons, allocator))
+          .isInstanceOf(InvalidBatchException.class)
+          .hasMessage("The column name is missing or is not a VarCharVector");
+    }
+  }
+
+  @Test
+  void reverseTaxCodesShouldConvertEachRow() {
+    // given
+    try (var taxCodes = taxCodes("BGNLSN93P19H294L", "BGNLSN93P19H294X")) {
+
+      // when
+      try (var actual = underTest.reverseTaxCodes(taxCodes, allocator)) {
+
+        // then
+        assertThat(actual.getSchema()).isEqualTo(ArrowTaxCodeConverter.PERSON_DATA_SCHEMA);
+        assertThat(actual.getRowCount()).isEqualTo(2);
+        assertThat(string(actual, ArrowTaxCodeConverter.GENDER, 0)).isEqualTo("MALE");
+        assertThat(string(actual, ArrowTaxCodeConverter.NAME, 0)).isEqualTo("LSN");
+        assertThat(string(actual, ArrowTaxCodeConverter.SURNAME, 0)).isEqualTo("BGN");
+        assertThat(((DateDayVector) actual.getVector(ArrowTaxCodeConverter.DATE_OF_BIRTH)).get(0))
+            .isEqualTo(LocalDate.of(1993, 9, 19).toEpochDay());
+        assertThat(string(actual, ArrowTaxCodeConverter.BIRTH_PLACE, 0)).isEqualTo("RIMINI");
+        assertThat(string(actual, ArrowTaxCodeConverter.PROVINCE, 0)).isEqualTo("RN");
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 0)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, 1)).isNull();
+        assertThat(string(actual, ArrowTaxCodeConverter.ERROR, 1))
+            .isEqualTo("invalid taxCode: INVALID_CONTROL_CHARACTER");
+      }
+    }
+  }
+
+  @Test
+  void calculateTaxCodesShouldConvertAnIpcStream() throws IOException {
+    // given
+    var input = new ByteArrayOutputStream();
+    try (var persons = persons("Alessandro", "Alessandro");
+         var writer = new ArrowStreamWriter(persons, new MapDictionaryProvider(), input)) {
+      writer.start();
+      writer.writeBatch();
+      writer.writeBatch();
+      writer.end();
+    }
+    var output = new ByteArrayOutputStream();
+
+    // when
+    underTest.calculateTaxCodes(new ByteArrayInputStream(input.toByteArray()), output, allocator);
+
+    // then
+    try (var reader = new ArrowStreamReader(new ByteArrayInputStream(output.toByteArray()), allocator)) {
+      var rows = 0;
+      while (reader.loadNextBatch()) {
+        var actual = reader.getVectorSchemaRoot();
+        assertThat(actual.getSchema()).isEqualTo(ArrowTaxCodeConverter.TAX_CODE_SCHEMA);
+        for (var i = 0; i < actual.getRowCount(); i++) {
+          assertThat(string(actual, ArrowTaxCodeConverter.TAX_CODE, i)).isEqualTo("BGNLSN93P19H294L");
+        }
+        rows += actual.getRowCount();
+      }
+      assertThat(rows).isEqualTo(4);
+    }
+  }
+
+  private VectorSchemaRoot persons(String... names) {
+    return persons(Arrays.stream(names)
+        .map(name -> new Person("MALE", name, LocalDate.of(1993, 9, 19)))
+        .toArray(Person[]::new));
+  }
+
+  // the rows are written in index order, as the VarCharVector offsets require
+  private VectorSchemaRoot persons(Person... rows) {
+    var persons = VectorSchemaRoot.create(PERSONS_SCHEMA, allocator);
+    persons.allocateNew();
+    for (var i = 0; i < rows.length; i++) {
+      set(persons, ArrowTaxCodeConverter.GENDER, i, rows[i].gender());
+      set(persons, ArrowTaxCodeConverter.NAME, i, rows[i].name());
+      set(persons, ArrowTaxCodeConverter.SURNAME, i, "Bagnoli");
+      ((DateDayVector) persons.getVector(ArrowTaxCodeConverter.DATE_OF_BIRTH))
+          .setSafe(i, Math.toIntExact(rows[i].dateOfBirth().toEpochDay()));
+      set(persons, ArrowTaxCodeConverter.BIRTH_PLACE, i, "Rimini");
+      set(persons, ArrowTaxCodeConverter.PROVINCE, i, "RN");
+    }
+    persons.setRowCount(rows.length);
+    return persons;
+  }
+
+  private VectorSchemaRoot taxCodes(String... values) {
+    var taxCodes = VectorSchemaRoot.create(new Schema(List.of(
+        Field.nullable(ArrowTaxCodeConverter.TAX_CODE, ArrowType.Utf8.INSTANCE))), allocator);
+    taxCodes.allocateNew();
+    for (var i = 0; i < values.length; i++) {
+      set(taxCodes, ArrowTaxCodeConverter.TAX_CODE, i, values[i]);
+    }
+    taxCodes.setRowCount(values.length);
+    return taxCodes;
+  }
+
+  private static void set(VectorSchemaRoot root, String column, int index, String value) {
+    ((VarCharVector) root.getVector(column)).setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String string(VectorSchemaRoot root, String column, int index) {
+    var vector = (VarCharVector) root.getVector(column);
+    return vector.isNull(index) ? null : new String(vector.get(index), StandardCharsets.UTF_8);
+  }
+
+  private record Person(String gender, String name, LocalDate dateOfBirth) {
+
+  }
+
+}
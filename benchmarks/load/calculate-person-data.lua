@@ -0,0 +1,6 @@
+-- wrk script posting a reverse conversion, the cheapest request of the service, so that the run stresses the request
+-- execution model rather than the conversion itself
+wrk.method = "POST"
+wrk.path = "/api/v1/taxcode:calculate-person-data"
+wrk.headers["Content-Type"] = "application/json"
+wrk.body = '{"taxCode":"BGNLSN93P19H294L"}'
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Runs the same wrk load at increasing connection counts against a running instance of the service and keeps the
+# reports in results/<label>-<connections>.txt, see README.md.
+set -euo pipefail
+
+label=${1:?usage: run-load.sh <label> [base url]}
+base_url=${2:-http://localhost:8080}
+threads=${THREADS:-8}
+duration=${DURATION:-60s}
+connections=${CONNECTIONS:-"200 1000 4000 8000"}
+
+cd "$(dirname "$0")"
+mkdir -p results
+
+# warm up the JIT and the connection pools before measuring
+wrk -t "$threads" -c 200 -d 30s -s calculate-person-data.lua "$base_url" > /dev/null
+
+for c in $connections; do
+  echo "Running $label with $c connections"
+  wrk -t "$threads" -c "$c" -d "$duration" --timeout 10s --latency -s calculate-person-data.lua "$base_url" \
+    | tee "results/$label-$c.txt"
+done
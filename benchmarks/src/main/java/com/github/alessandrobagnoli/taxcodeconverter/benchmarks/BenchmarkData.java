@@ -0,0 +1,61 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.config.AppConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CenturyPivot;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * A realistic mix of inputs shared by the suites: short and long (compound) names, accents and apostrophes, accented
+ * birth places and female dates of birth.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkData {
+
+  static final List<CalculateTaxCodeRequest> REQUESTS = List.of(
+      request(Gender.MALE, "Alessandro", "Bagnoli", LocalDate.of(1993, 9, 19), "Rimini", "RN"),
+      request(Gender.FEMALE, "Ida", "Re", LocalDate.of(1961, 2, 28), "Roma", "RM"),
+      request(Gender.MALE, "Al", "Bo", LocalDate.of(2004, 7, 1), "Pesaro", "PU"),
+      request(Gender.FEMALE, "Maria Antonietta Giuseppina", "De La Croix Bianchi", LocalDate.of(1948, 12, 31),
+          "Agliè", "TO"),
+      request(Gender.MALE, "Niccolò", "D'Angelo", LocalDate.of(1987, 1, 3), "Ciriè", "TO"),
+      request(Gender.FEMALE, "Gianmarco", "Dell'Orto", LocalDate.of(2015, 5, 17), "Viù", "TO"),
+      request(Gender.MALE, "Ugo", "Aio", LocalDate.of(1975, 11, 9), "Rorà", "TO"),
+      request(Gender.FEMALE, "Chiara", "Esposito", LocalDate.of(1999, 4, 23), "Napoli", "NA"));
+
+  // the size of the input arrays is a power of two, so that the suites can cycle over them with a mask
+  static final int INPUT_MASK = REQUESTS.size() - 1;
+
+  static TaxCodeCalculator newCalculator(Clock clock) {
+    return new TaxCodeCalculator(new CityRegistry(new AppConfig().cityDataset()), new CenturyPivot(clock),
+        newMetrics());
+  }
+
+  // the same meters as the service, so that the suites include their cost on the hot path
+  static TaxCodeMetrics newMetrics() {
+    return new TaxCodeMetrics(new SimpleMeterRegistry());
+  }
+
+  private static CalculateTaxCodeRequest request(Gender gender, String name, String surname, LocalDate dateOfBirth,
+      String birthPlace, String province) {
+    return CalculateTaxCodeRequest.builder()
+        .gender(gender)
+        .name(name)
+        .surname(surname)
+        .dateOfBirth(dateOfBirth)
+        .birthPlace(birthPlace)
+        .province(province)
+        .build();
+  }
+
+}
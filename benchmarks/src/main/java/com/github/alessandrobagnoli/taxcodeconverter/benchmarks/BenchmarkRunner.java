@@ -0,0 +1,30 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH suites with the GC profiler enabled and writes the results as JSON to {@code jmh-result.json}, so that
+ * runs of different releases can be compared. Any standard JMH command line option is still accepted and takes
+ * precedence over these defaults, e.g. {@code java -jar benchmarks/target/benchmarks.jar TaxCodeCalculator -rff
+ * 1.0.4.json}.
+ */
+public class BenchmarkRunner {
+
+  private static final String RESULT_FILE = "jmh-result.json";
+
+  public static void main(String... args) throws Exception {
+    var commandLineOptions = new CommandLineOptions(args);
+    var options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+        .result(commandLineOptions.getResult().orElse(RESULT_FILE))
+        .build();
+    new Runner(options).run();
+  }
+
+}
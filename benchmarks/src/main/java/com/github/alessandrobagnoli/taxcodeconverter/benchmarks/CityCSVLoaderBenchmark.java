@@ -0,0 +1,43 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares loading the cities from the dataset precompiled at build time, which is what {@code parseCities} does
+ * when the module is built with Maven, against parsing the csv file with opencsv.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CityCSVLoaderBenchmark {
+
+  private final CityCSVLoader loader = new CityCSVLoader();
+
+  @Benchmark
+  public List<CityCSV> parseCities() {
+    return loader.parseCities();
+  }
+
+  @Benchmark
+  public CityDataset parseCsv() {
+    return loader.parseCsv();
+  }
+
+}
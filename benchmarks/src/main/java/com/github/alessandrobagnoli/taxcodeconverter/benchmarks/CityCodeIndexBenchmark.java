@@ -0,0 +1,70 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCodeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the lookup of a city from the code embedded in a tax code: the {@link Map} keyed by the Belfiore code,
+ * which needs a substring as key, against the {@link CityCodeIndex}, which works on the chars of the tax code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CityCodeIndexBenchmark {
+
+  private Map<String, CityCSV> cityCodesMap;
+  private CityCodeIndex cityCodeIndex;
+  private String[] taxCodes;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    var cities = new CityCSVLoader().parseCities();
+    cityCodesMap = toMap(cities);
+    cityCodeIndex = new CityCodeIndex(cities);
+    var calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    taxCodes = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .toArray(String[]::new);
+  }
+
+  @Benchmark
+  public CityCSV mapLookup() {
+    var taxCode = taxCodes[index++ & BenchmarkData.INPUT_MASK];
+    return cityCodesMap.get(taxCode.substring(11, 15));
+  }
+
+  @Benchmark
+  public CityCSV indexLookup() {
+    var taxCode = taxCodes[index++ & BenchmarkData.INPUT_MASK];
+    return cityCodeIndex.get(taxCode.charAt(11),
+        (taxCode.charAt(12) - '0') * 100 + (taxCode.charAt(13) - '0') * 10 + taxCode.charAt(14) - '0');
+  }
+
+  // the map the service used before the index
+  static Map<String, CityCSV> toMap(List<CityCSV> cities) {
+    return cities.stream().collect(Collectors.toMap(CityCSV::getCode, Function.identity()));
+  }
+
+}
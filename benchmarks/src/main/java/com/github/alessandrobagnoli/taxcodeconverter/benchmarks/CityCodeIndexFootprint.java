@@ -0,0 +1,26 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCodeIndex;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained size of the {@code HashMap} keyed by Belfiore code and of the {@link CityCodeIndex}, net of the
+ * cities they share, e.g. {@code java -cp benchmarks/target/benchmarks.jar
+ * com.github.alessandrobagnoli.taxcodeconverter.benchmarks.CityCodeIndexFootprint}.
+ */
+public class CityCodeIndexFootprint {
+
+  public static void main(String... args) {
+    var cities = new CityCSVLoader().parseCities();
+    var citiesLayout = GraphLayout.parseInstance(cities.toArray());
+    var mapLayout = GraphLayout.parseInstance(CityCodeIndexBenchmark.toMap(cities)).subtract(citiesLayout);
+    var indexLayout = GraphLayout.parseInstance(new CityCodeIndex(cities)).subtract(citiesLayout);
+
+    System.out.printf("cities: %d%n", cities.size());
+    System.out.printf("HashMap<String, CityCSV>: %d bytes, %d objects%n", mapLayout.totalSize(),
+        mapLayout.totalCount());
+    System.out.printf("CityCodeIndex: %d bytes, %d objects%n", indexLayout.totalSize(), indexLayout.totalCount());
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityPrefixIndex;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Samples the latency of the autocomplete searches, so that the percentiles are reported, on the keystrokes of a few
+ * birth places: short prefixes match hundreds of cities and are the worst case when filtering by province.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CityPrefixIndexBenchmark {
+
+  private static final String[] PREFIXES = {"s", "san ", "Agli", "albiano d'", "Reggio nell", "rim", "Ciri", "ma"};
+  private static final String[] PROVINCES = {"TO", null, null, "TO", null, "RN", null, "NA"};
+
+  private CityPrefixIndex cityPrefixIndex;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    cityPrefixIndex = new CityPrefixIndex(new CityCSVLoader().parseCities());
+  }
+
+  @Benchmark
+  public List<CityResponse> search() {
+    var i = index++ & PREFIXES.length - 1;
+    return cityPrefixIndex.search(PREFIXES[i], null, 10);
+  }
+
+  @Benchmark
+  public List<CityResponse> searchByProvince() {
+    var i = index++ & PREFIXES.length - 1;
+    return cityPrefixIndex.search(PREFIXES[i], PROVINCES[i], 10);
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes and deserializes the DTO records with a mapper configured as the Spring Boot one (ISO dates).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+
+  private ObjectWriter writer;
+  private ObjectReader taxCodeRequestReader;
+  private ObjectReader personDataResponseReader;
+  private CalculateTaxCodeRequest[] taxCodeRequests;
+  private CalculatePersonDataResponse[] personDataResponses;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    var objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    writer = objectMapper.writer();
+    taxCodeRequestReader = objectMapper.readerFor(CalculateTaxCodeRequest.class);
+    personDataResponseReader = objectMapper.readerFor(CalculatePersonDataResponse.class);
+
+    var calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    taxCodeRequests = BenchmarkData.REQUESTS.toArray(CalculateTaxCodeRequest[]::new);
+    personDataResponses = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .map(calculator::reverseTaxCode)
+        .toArray(CalculatePersonDataResponse[]::new);
+  }
+
+  @Benchmark
+  public CalculateTaxCodeRequest calculateTaxCodeRequestRoundTrip() throws IOException {
+    var json = writer.writeValueAsBytes(taxCodeRequests[index++ & BenchmarkData.INPUT_MASK]);
+    return taxCodeRequestReader.readValue(json);
+  }
+
+  @Benchmark
+  public CalculatePersonDataResponse calculatePersonDataResponseRoundTrip() throws IOException {
+    var json = writer.writeValueAsBytes(personDataResponses[index++ & BenchmarkData.INPUT_MASK]);
+    return personDataResponseReader.readValue(json);
+  }
+
+}
@@ -0,0 +1,97 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.PackedTaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates a batch of codes, one in eight with a wrong control char: one by one with the scalar validator, packed with
+ * the SWAR kernel, and through the single and the batch validation of the service, packing included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackedTaxCodeValidatorBenchmark {
+
+  @Param({"64", "4096"})
+  private int size;
+
+  private String[] taxCodes;
+  private byte[] packed;
+  private List<CalculatePersonDataRequest> requests;
+  private TaxCodeValidationService validationService;
+
+  @Setup
+  public void setUp() {
+    var calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    var validCodes = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .toArray(String[]::new);
+    taxCodes = new String[size];
+    packed = new byte[size * PackedTaxCodeValidator.CODE_BYTES];
+    for (var i = 0; i < size; i++) {
+      var taxCode = validCodes[i & BenchmarkData.INPUT_MASK];
+      taxCodes[i] = i % 8 == 7 ? taxCode.substring(0, 15) + (taxCode.charAt(15) == 'A' ? 'B' : 'A') : taxCode;
+      for (var j = 0; j < PackedTaxCodeValidator.CODE_BYTES; j++) {
+        packed[i * PackedTaxCodeValidator.CODE_BYTES + j] = (byte) taxCodes[i].charAt(j);
+      }
+    }
+    requests = Arrays.stream(taxCodes)
+        .map(taxCode -> CalculatePersonDataRequest.builder()
+            .taxCode(taxCode)
+            .build())
+        .toList();
+    validationService = new TaxCodeValidationService();
+  }
+
+  @Benchmark
+  public TaxCodeValidity[] scalar() {
+    var validities = new TaxCodeValidity[taxCodes.length];
+    for (var i = 0; i < taxCodes.length; i++) {
+      validities[i] = TaxCodeValidator.validate(taxCodes[i]);
+    }
+    return validities;
+  }
+
+  @Benchmark
+  public TaxCodeValidity[] packed() {
+    return PackedTaxCodeValidator.validate(packed);
+  }
+
+  @Benchmark
+  public ValidateTaxCodeResponse[] serviceOneByOne() {
+    var responses = new ValidateTaxCodeResponse[requests.size()];
+    for (var i = 0; i < responses.length; i++) {
+      responses[i] = validationService.validate(requests.get(i));
+    }
+    return responses;
+  }
+
+  @Benchmark
+  public List<ValidateTaxCodeResponse> serviceBatch() {
+    return validationService.validateAll(requests);
+  }
+
+}
@@ -0,0 +1,84 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.CalculatePersonDataRequestValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.CalculateTaxCodeRequestValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.DirectRequestValidation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code ConstraintValidator}s on valid requests, which is what the vast majority of the traffic looks
+ * like: a valid request never touches the {@code ConstraintValidatorContext}, so none is needed here. The
+ * {@link DirectRequestValidation} checks the same rules, see {@link ValidationPathBenchmark} for the whole path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestValidatorBenchmark {
+
+  private CalculateTaxCodeRequestValidator calculateTaxCodeRequestValidator;
+  private CalculatePersonDataRequestValidator calculatePersonDataRequestValidator;
+  private DirectRequestValidation directRequestValidation;
+  private CalculateTaxCodeRequest[] taxCodeRequests;
+  private CalculatePersonDataRequest[] personDataRequests;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    var clock = Clock.systemUTC();
+    var calculator = BenchmarkData.newCalculator(clock);
+    calculateTaxCodeRequestValidator = new CalculateTaxCodeRequestValidator(clock, BenchmarkData.newMetrics());
+    calculatePersonDataRequestValidator = new CalculatePersonDataRequestValidator(BenchmarkData.newMetrics());
+    directRequestValidation = new DirectRequestValidation(clock, BenchmarkData.newMetrics());
+    taxCodeRequests = BenchmarkData.REQUESTS.toArray(CalculateTaxCodeRequest[]::new);
+    personDataRequests = BenchmarkData.REQUESTS.stream()
+        .map(request -> CalculatePersonDataRequest.builder()
+            .taxCode(calculator.calculateTaxCode(request))
+            .build())
+        .toArray(CalculatePersonDataRequest[]::new);
+  }
+
+  @Benchmark
+  public boolean validateCalculateTaxCodeRequest() {
+    return calculateTaxCodeRequestValidator.isValid(taxCodeRequests[index++ & BenchmarkData.INPUT_MASK], null);
+  }
+
+  @Benchmark
+  public boolean validateCalculatePersonDataRequest() {
+    return calculatePersonDataRequestValidator.isValid(personDataRequests[index++ & BenchmarkData.INPUT_MASK], null);
+  }
+
+  @Benchmark
+  public void directValidateCalculateTaxCodeRequest() {
+    directRequestValidation.validate(taxCodeRequests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public void directValidateCalculatePersonDataRequest() {
+    directRequestValidation.validate(personDataRequests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public TaxCodeValidity validateTaxCode() {
+    return TaxCodeValidator.validate(personDataRequests[index++ & BenchmarkData.INPUT_MASK].taxCode());
+  }
+
+}
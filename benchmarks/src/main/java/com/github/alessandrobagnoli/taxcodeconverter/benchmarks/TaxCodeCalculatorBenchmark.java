@@ -0,0 +1,52 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaxCodeCalculatorBenchmark {
+
+  private TaxCodeCalculator calculator;
+  private CalculateTaxCodeRequest[] requests;
+  private String[] taxCodes;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    requests = BenchmarkData.REQUESTS.toArray(CalculateTaxCodeRequest[]::new);
+    taxCodes = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .toArray(String[]::new);
+  }
+
+  @Benchmark
+  public String calculateTaxCode() {
+    return calculator.calculateTaxCode(requests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public CalculatePersonDataResponse reverseTaxCode() {
+    return calculator.reverseTaxCode(taxCodes[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+}
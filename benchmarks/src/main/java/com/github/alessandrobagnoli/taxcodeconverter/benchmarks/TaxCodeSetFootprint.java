@@ -0,0 +1,35 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.util.HashSet;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCode;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeSet;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained size of a {@code HashSet} of tax code strings and of a {@link TaxCodeSet} holding the same
+ * codes, e.g. {@code java -cp benchmarks/target/benchmarks.jar
+ * com.github.alessandrobagnoli.taxcodeconverter.benchmarks.TaxCodeSetFootprint 1000000}.
+ */
+public class TaxCodeSetFootprint {
+
+  public static void main(String... args) {
+    var count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    // distinct codes spread over all the fields, each one a multiple of a code with a single non-zero char
+    var step = TaxCode.pack("AAAAAA00A01A000H");
+    var strings = new HashSet<String>();
+    var packed = new TaxCodeSet(count);
+    for (var i = 0L; i < count; i++) {
+      strings.add(TaxCode.unpack(i * step));
+      packed.add(i * step);
+    }
+    var stringsLayout = GraphLayout.parseInstance(strings);
+    var packedLayout = GraphLayout.parseInstance(packed);
+
+    System.out.printf("codes: %d%n", count);
+    System.out.printf("HashSet<String>: %d bytes, %d objects%n", stringsLayout.totalSize(),
+        stringsLayout.totalCount());
+    System.out.printf("TaxCodeSet: %d bytes, %d objects%n", packedLayout.totalSize(), packedLayout.totalCount());
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.config.AppConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.config.ValidationConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CenturyPivot;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Measures {@link TaxCodeConverterService} as wired by Spring with either validation mode of {@link ValidationConfig}:
+ * through the method validation proxy or with the direct validation. The invalid requests include building the
+ * exception, which is where the two differ the most; the web layer is left out, it is the same for both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationPathBenchmark {
+
+  @Param({"method", "direct"})
+  private String mode;
+
+  private AnnotationConfigApplicationContext context;
+  private TaxCodeConverterService taxCodeConverterService;
+  private CalculateTaxCodeRequest[] taxCodeRequests;
+  private CalculatePersonDataRequest[] personDataRequests;
+  private CalculatePersonDataRequest invalidPersonDataRequest;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext();
+    context.getEnvironment().getPropertySources()
+        .addFirst(new MapPropertySource("benchmark", Map.of("taxcode.validation.mode", mode)));
+    context.registerBean(SimpleMeterRegistry.class);
+    context.register(ValidationAutoConfiguration.class, AppConfig.class, ValidationConfig.class, TaxCodeMetrics.class,
+        CenturyPivot.class, CityRegistry.class, TaxCodeCalculator.class, TaxCodeConverterService.class);
+    context.refresh();
+    taxCodeConverterService = context.getBean(TaxCodeConverterService.class);
+    taxCodeRequests = BenchmarkData.REQUESTS.toArray(CalculateTaxCodeRequest[]::new);
+    personDataRequests = BenchmarkData.REQUESTS.stream()
+        .map(request -> CalculatePersonDataRequest.builder()
+            .taxCode(taxCodeConverterService.fromPersonToTaxCode(request).taxCode())
+            .build())
+        .toArray(CalculatePersonDataRequest[]::new);
+    invalidPersonDataRequest = CalculatePersonDataRequest.builder()
+        .taxCode("BGNLSN93P19H294A")
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public CalculateTaxCodeResponse calculateTaxCode() {
+    return taxCodeConverterService.fromPersonToTaxCode(taxCodeRequests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public CalculatePersonDataResponse calculatePersonData() {
+    return taxCodeConverterService.fromTaxCodeToPerson(personDataRequests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public Object calculatePersonDataWhenInvalid() {
+    try {
+      return taxCodeConverterService.fromTaxCodeToPerson(invalidPersonDataRequest);
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+}
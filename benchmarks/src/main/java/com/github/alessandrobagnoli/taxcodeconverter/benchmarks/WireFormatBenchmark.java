@@ -0,0 +1,100 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.alessandrobagnoli.taxcodeconverter.config.WireFormatConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads a {@link CalculateTaxCodeRequest} and writes a {@link CalculatePersonDataResponse}, the work of the message
+ * converters for a record, in the JSON format and in the CBOR one of {@link WireFormatConfig}. The batch suites do the
+ * same for all the records of {@link BenchmarkData#REQUESTS} in a single array, as in a batch request: their time is
+ * per batch, not per record. The bytes per record are printed by {@link WireFormatFootprint}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+  @Param({"json", "cbor"})
+  private String format;
+
+  private ObjectWriter writer;
+  private ObjectReader taxCodeRequestReader;
+  private ObjectReader taxCodeRequestsReader;
+  private byte[][] taxCodeRequests;
+  private byte[] taxCodeRequestBatch;
+  private CalculatePersonDataResponse[] personDataResponses;
+  private int index;
+
+  @Setup
+  public void setUp() throws IOException {
+    var objectMapper = "cbor".equals(format) ? WireFormatConfig.cborMapper() : jsonMapper();
+    writer = objectMapper.writer();
+    taxCodeRequestReader = objectMapper.readerFor(CalculateTaxCodeRequest.class);
+    taxCodeRequestsReader = objectMapper.readerFor(CalculateTaxCodeRequest[].class);
+
+    var calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    taxCodeRequests = new byte[BenchmarkData.REQUESTS.size()][];
+    for (var i = 0; i < taxCodeRequests.length; i++) {
+      taxCodeRequests[i] = writer.writeValueAsBytes(BenchmarkData.REQUESTS.get(i));
+    }
+    taxCodeRequestBatch = writer.writeValueAsBytes(BenchmarkData.REQUESTS);
+    personDataResponses = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .map(calculator::reverseTaxCode)
+        .toArray(CalculatePersonDataResponse[]::new);
+  }
+
+  @Benchmark
+  public CalculateTaxCodeRequest readCalculateTaxCodeRequest() throws IOException {
+    return taxCodeRequestReader.readValue(taxCodeRequests[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public byte[] writeCalculatePersonDataResponse() throws IOException {
+    return writer.writeValueAsBytes(personDataResponses[index++ & BenchmarkData.INPUT_MASK]);
+  }
+
+  @Benchmark
+  public CalculateTaxCodeRequest[] readCalculateTaxCodeRequestBatch() throws IOException {
+    return taxCodeRequestsReader.readValue(taxCodeRequestBatch);
+  }
+
+  @Benchmark
+  public byte[] writeCalculatePersonDataResponseBatch() throws IOException {
+    return writer.writeValueAsBytes(personDataResponses);
+  }
+
+  // configured as the Spring Boot one, as in JacksonBenchmark
+  static ObjectMapper jsonMapper() {
+    return JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+  }
+
+}
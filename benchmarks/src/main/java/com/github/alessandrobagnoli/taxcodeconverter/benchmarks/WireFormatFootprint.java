@@ -0,0 +1,46 @@
+package com.github.alessandrobagnoli.taxcodeconverter.benchmarks;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.config.WireFormatConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+
+/**
+ * Prints the bytes per record of the requests and responses of {@link BenchmarkData}, single and batched, in JSON and
+ * in CBOR, e.g. {@code java -cp benchmarks/target/benchmarks.jar
+ * com.github.alessandrobagnoli.taxcodeconverter.benchmarks.WireFormatFootprint}.
+ */
+public class WireFormatFootprint {
+
+  public static void main(String... args) throws IOException {
+    var calculator = BenchmarkData.newCalculator(Clock.systemUTC());
+    List<CalculatePersonDataResponse> responses = BenchmarkData.REQUESTS.stream()
+        .map(calculator::calculateTaxCode)
+        .map(calculator::reverseTaxCode)
+        .toList();
+
+    print("json", WireFormatBenchmark.jsonMapper(), responses);
+    print("cbor", WireFormatConfig.cborMapper(), responses);
+  }
+
+  private static void print(String format, ObjectMapper objectMapper, List<CalculatePersonDataResponse> responses)
+      throws IOException {
+    var records = BenchmarkData.REQUESTS.size();
+    var requests = 0L;
+    for (var request : BenchmarkData.REQUESTS) {
+      requests += objectMapper.writeValueAsBytes(request).length;
+    }
+    var personData = 0L;
+    for (var response : responses) {
+      personData += objectMapper.writeValueAsBytes(response).length;
+    }
+    System.out.printf("%s: CalculateTaxCodeRequest %.1f bytes/record (batch %.1f), "
+            + "CalculatePersonDataResponse %.1f bytes/record (batch %.1f)%n", format,
+        (double) requests / records, (double) objectMapper.writeValueAsBytes(BenchmarkData.REQUESTS).length / records,
+        (double) personData / records, (double) objectMapper.writeValueAsBytes(responses).length / records);
+  }
+
+}
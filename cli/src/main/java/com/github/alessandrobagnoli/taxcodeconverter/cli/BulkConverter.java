@@ -0,0 +1,170 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.github.alessandrobagnoli.taxcodeconverter.cli.LineChunks.Chunk;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converts a whole csv file offline, e.g. {@code java -jar cli/target/taxcode-cli.jar TAX_CODE persons.csv
+ * tax-codes.csv}. The input is memory-mapped and split into chunks of whole lines converted in parallel, while their
+ * results are written in the input order: the n-th row of the output is the conversion of the n-th row of the input,
+ * see {@link Conversion}. The first line of the input is a header and is replaced by the one of the output.
+ */
+@RequiredArgsConstructor
+public class BulkConverter {
+
+  static final int CHUNK_SIZE = 4 * 1024 * 1024;
+  // chunks converted ahead of the one being written, per thread, bounding the results held in memory
+  private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+  private static final int OUTPUT_BUFFER_SIZE = 1024 * 1024;
+
+  private final TaxCodeCalculator calculator;
+  private final Conversion conversion;
+  private final int threads;
+
+  @Builder
+  record Report(long rows, long failures, long nanos) {
+
+    double rowsPerSecond() {
+      return nanos == 0 ? 0 : rows * 1e9 / nanos;
+    }
+
+  }
+
+  /**
+   * @param args - the conversion, the input file, the output file and optionally the number of threads, by default
+   *             the available processors
+   */
+  public static void main(String... args) throws IOException, InterruptedException {
+    if (args.length < 3 || args.length > 4) {
+      throw new IllegalArgumentException("Usage: BulkConverter <TAX_CODE|PERSON_DATA> <input csv> <output csv> "
+          + "[threads]");
+    }
+    var conversion = Conversion.valueOf(args[0].toUpperCase(Locale.ROOT));
+    var threads = args.length == 4 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+    var converter = new BulkConverter(TaxCodeCalculator.create(Clock.systemUTC()), conversion, threads);
+    var report = converter.convert(Path.of(args[1]), Path.of(args[2]));
+    System.out.printf(Locale.ROOT, "Converted %d rows, %d failed, in %.3f s: %.0f rows/s on %d threads%n",
+        report.rows(), report.failures(), report.nanos() / 1e9, report.rowsPerSecond(), threads);
+  }
+
+  public Report convert(Path input, Path output) throws IOException, InterruptedException {
+    var start = System.nanoTime();
+    var rows = 0L;
+    var failures = 0L;
+    var executor = Executors.newFixedThreadPool(threads);
+    try (var inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+         var outputChannel = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+             StandardOpenOption.TRUNCATE_EXISTING)) {
+      var chunks = LineChunks.split(inputChannel, Math.max(threads, (int) (inputChannel.size() / CHUNK_SIZE) + 1));
+      var outputBuffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+      write(outputChannel, outputBuffer, (conversion.getHeader() + '\n').getBytes(StandardCharsets.UTF_8));
+      var pending = new ArrayDeque<Future<ChunkResult>>();
+      var next = 0;
+      while (next < chunks.size() || !pending.isEmpty()) {
+        while (next < chunks.size() && pending.size() < threads * CHUNKS_IN_FLIGHT_PER_THREAD) {
+          pending.add(submit(executor, inputChannel, chunks.get(next++)));
+        }
+        var result = await(pending.remove());
+        rows += result.rows();
+        failures += result.failures();
+        write(outputChannel, outputBuffer, result.output());
+      }
+      outputBuffer.flip();
+      while (outputBuffer.hasRemaining()) {
+        outputChannel.write(outputBuffer);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return Report.builder()
+        .rows(rows)
+        .failures(failures)
+        .nanos(System.nanoTime() - start)
+        .build();
+  }
+
+  private record ChunkResult(byte[] output, long rows, long failures) {
+
+  }
+
+  // Converts the rows of a chunk into a buffer that is written to the output in one go
+  private final class ChunkRows implements Consumer<String> {
+
+    private final StringBuilder output;
+    private boolean header;
+    private long rows;
+    private long failures;
+
+    ChunkRows(StringBuilder output, boolean header) {
+      this.output = output;
+      this.header = header;
+    }
+
+    @Override
+    public void accept(String row) {
+      if (header) {
+        header = false;
+        return;
+      }
+      rows++;
+      if (!conversion.convert(row, calculator, output)) {
+        failures++;
+      }
+    }
+
+  }
+
+  private Future<ChunkResult> submit(ExecutorService executor, FileChannel input, Chunk chunk) {
+    return executor.submit(() -> {
+      var rows = new ChunkRows(new StringBuilder((int) Math.min(chunk.size(), CHUNK_SIZE)), chunk.start() == 0);
+      LineChunks.forEachLine(input.map(MapMode.READ_ONLY, chunk.start(), chunk.size()), rows);
+      return new ChunkResult(rows.output.toString().getBytes(StandardCharsets.UTF_8), rows.rows, rows.failures);
+    });
+  }
+
+  private static ChunkResult await(Future<ChunkResult> future) throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IllegalStateException("Unable to convert a chunk of the input", e.getCause());
+    }
+  }
+
+  private static void write(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+    var offset = 0;
+    while (offset < bytes.length) {
+      var length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+      if (!buffer.hasRemaining()) {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        buffer.clear();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,124 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The conversions of a single csv row, fields separated by {@value #SEPARATOR} as in the bundled city files. Each
+ * input row gives exactly one output row, whose last field is the error when the row could not be converted and is
+ * empty otherwise.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Conversion {
+
+  /**
+   * {@code gender;name;surname;dateOfBirth;birthPlace;province[;country]} to {@code taxCode;error}
+   */
+  TAX_CODE("taxCode;error") {
+    @Override
+    void convertRow(String row, TaxCodeCalculator calculator, StringBuilder output) {
+      output.append(calculator.calculateTaxCode(toRequest(row))).append(SEPARATOR);
+    }
+  },
+
+  /**
+   * {@code taxCode[;...]} to {@code taxCode;gender;name;surname;dateOfBirth;birthPlace;province;error}
+   */
+  PERSON_DATA("taxCode;gender;name;surname;dateOfBirth;birthPlace;province;error") {
+    @Override
+    void convertRow(String row, TaxCodeCalculator calculator, StringBuilder output) {
+      var separator = row.indexOf(SEPARATOR);
+      var taxCode = (separator < 0 ? row : row.substring(0, separator)).strip();
+      var validity = TaxCodeValidator.validate(taxCode);
+      if (validity != TaxCodeValidity.VALID) {
+        throw new IllegalArgumentException("invalid taxCode: " + validity);
+      }
+      var person = calculator.reverseTaxCode(taxCode);
+      output.append(person.taxCode()).append(SEPARATOR)
+          .append(person.gender()).append(SEPARATOR)
+          .append(person.name()).append(SEPARATOR)
+          .append(person.surname()).append(SEPARATOR)
+          .append(person.dateOfBirth()).append(SEPARATOR)
+          .append(person.birthPlace()).append(SEPARATOR)
+          .append(person.province()).append(SEPARATOR);
+    }
+  };
+
+  static final char SEPARATOR = ';';
+
+  private final String header;
+
+  /**
+   * Appends the output row of the given input row, terminator included.
+   *
+   * @return whether the row was converted, otherwise the output row carries the error
+   */
+  boolean convert(String row, TaxCodeCalculator calculator, StringBuilder output) {
+    var rowStart = output.length();
+    try {
+      convertRow(row, calculator, output);
+      output.append('\n');
+      return true;
+    } catch (RuntimeException e) {
+      output.setLength(rowStart);
+      output.append(String.valueOf(SEPARATOR).repeat((int) header.chars().filter(c -> c == SEPARATOR).count()))
+          .append(e.getMessage() == null ? e.toString() : e.getMessage())
+          .append('\n');
+      return false;
+    }
+  }
+
+  abstract void convertRow(String row, TaxCodeCalculator calculator, StringBuilder output);
+
+  private static CalculateTaxCodeRequest toRequest(String row) {
+    var fields = row.split(String.valueOf(SEPARATOR), -1);
+    if (fields.length != 6 && fields.length != 7) {
+      throw new IllegalArgumentException("expected 6 or 7 fields, found " + fields.length);
+    }
+    var country = fields.length == 7 && !fields[6].isBlank() ? fields[6].strip() : null;
+    return CalculateTaxCodeRequest.builder()
+        .gender(toGender(required(fields[0], "gender")))
+        .name(required(fields[1], "name"))
+        .surname(required(fields[2], "surname"))
+        .dateOfBirth(toDate(required(fields[3], "dateOfBirth")))
+        .birthPlace(country == null ? required(fields[4], "birthPlace") : null)
+        .province(country == null ? required(fields[5], "province") : null)
+        .country(country)
+        .build();
+  }
+
+  private static String required(String field, String property) {
+    var value = field.strip();
+    if (value.isEmpty()) {
+      throw new IllegalArgumentException("missing required property " + property);
+    }
+    return value;
+  }
+
+  private static Gender toGender(String value) {
+    try {
+      return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("invalid gender " + value);
+    }
+  }
+
+  private static LocalDate toDate(String value) {
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid dateOfBirth " + value);
+    }
+  }
+
+}
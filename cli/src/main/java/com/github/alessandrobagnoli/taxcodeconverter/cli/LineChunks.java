@@ -0,0 +1,97 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Splits a file into chunks made of whole lines, so that each one can be mapped and converted on its own.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class LineChunks {
+
+  private static final int SCAN_BUFFER_SIZE = 4096;
+
+  record Chunk(int index, long start, long end) {
+
+    long size() {
+      return end - start;
+    }
+
+  }
+
+  /**
+   * @param count - the number of chunks wanted, fewer are returned when the file has fewer lines
+   * @return the chunks covering the whole file, each boundary moved past the end of the line it falls in
+   */
+  static List<Chunk> split(FileChannel channel, int count) throws IOException {
+    var size = channel.size();
+    var chunks = new ArrayList<Chunk>(count);
+    var buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    var start = 0L;
+    for (var i = 1; i <= count && start < size; i++) {
+      var end = i == count ? size : nextLineStart(channel, Math.max(start, size / count * i), buffer);
+      if (end > start) {
+        chunks.add(new Chunk(chunks.size(), start, end));
+      }
+      start = end;
+    }
+    return chunks;
+  }
+
+  /**
+   * Decodes the lines of a chunk as UTF-8, without their line terminator ({@code \n} or {@code \r\n}). The last line
+   * may lack its terminator.
+   */
+  static void forEachLine(ByteBuffer chunk, Consumer<String> action) {
+    var line = new byte[256];
+    var length = 0;
+    while (chunk.hasRemaining()) {
+      var b = chunk.get();
+      if (b == '\n') {
+        action.accept(decode(line, length));
+        length = 0;
+        continue;
+      }
+      if (length == line.length) {
+        line = Arrays.copyOf(line, length * 2);
+      }
+      line[length++] = b;
+    }
+    if (length > 0) {
+      action.accept(decode(line, length));
+    }
+  }
+
+  private static long nextLineStart(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+    var size = channel.size();
+    while (position < size) {
+      buffer.clear();
+      var read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (var i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private static String decode(byte[] line, int length) {
+    var end = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    return new String(line, 0, end, StandardCharsets.UTF_8);
+  }
+
+}
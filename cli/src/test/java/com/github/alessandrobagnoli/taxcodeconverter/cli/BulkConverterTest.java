@@ -0,0 +1,70 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkConverterTest {
+
+  private static final TaxCodeCalculator CALCULATOR = TaxCodeCalculator.create(
+      Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC));
+
+  @TempDir
+  private Path tempDir;
+
+  @SneakyThrows
+  @Test
+  void convertShouldWriteTheRowsInTheInputOrder() {
+    // given
+    var input = new StringBuilder("gender;name;surname;dateOfBirth;birthPlace;province;country\n");
+    var expected = new StringBuilder("taxCode;error\n");
+    for (var i = 0; i < 1000; i++) {
+      if (i % 10 == 0) {
+        input.append("MALE;Alessandro;Bagnoli;1993-09-19;fakeCity;RN\n");
+        expected.append(";The city fakeCity and province RN do not exist\n");
+      } else {
+        input.append("MALE;Alessandro;Bagnoli;1993-09-19;Rimini;RN\r\n");
+        expected.append("BGNLSN93P19H294L;\n");
+      }
+    }
+    var inputFile = Files.writeString(tempDir.resolve("input.csv"), input);
+    var outputFile = tempDir.resolve("output.csv");
+    var underTest = new BulkConverter(CALCULATOR, Conversion.TAX_CODE, 4);
+
+    // when
+    var actual = underTest.convert(inputFile, outputFile);
+
+    // then
+    assertThat(actual.rows()).isEqualTo(1000);
+    assertThat(actual.failures()).isEqualTo(100);
+    assertThat(actual.rowsPerSecond()).isPositive();
+    assertThat(Files.readString(outputFile)).isEqualTo(expected.toString());
+  }
+
+  @SneakyThrows
+  @Test
+  void convertShouldWriteOnlyTheHeaderWhenInputHasNoRows() {
+    // given
+    var inputFile = Files.writeString(tempDir.resolve("input.csv"), "taxCode\n");
+    var outputFile = Files.writeString(tempDir.resolve("output.csv"), "previous content");
+    var underTest = new BulkConverter(CALCULATOR, Conversion.PERSON_DATA, 2);
+
+    // when
+    var actual = underTest.convert(inputFile, outputFile);
+
+    // then
+    assertThat(actual.rows()).isZero();
+    assertThat(Files.readString(outputFile))
+        .isEqualTo("taxCode;gender;name;surname;dateOfBirth;birthPlace;province;error\n");
+  }
+
+}
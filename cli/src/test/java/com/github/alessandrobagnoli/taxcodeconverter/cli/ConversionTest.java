@@ -0,0 +1,83 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversionTest {
+
+  private static final TaxCodeCalculator CALCULATOR = TaxCodeCalculator.create(
+      Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC));
+
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestArgumentsProvider.class)
+  void convertShouldWriteOneRow(Conversion underTest, String row, boolean expectedSuccess, String expectedRow) {
+    // given
+    var output = new StringBuilder("previous\n");
+
+    // when
+    var actual = underTest.convert(row, CALCULATOR, output);
+
+    // then
+    assertThat(actual).isEqualTo(expectedSuccess);
+    assertThat(output).hasToString("previous\n" + expectedRow + "\n");
+  }
+
+  @Test
+  void convertShouldKeepTheColumnsOfTheHeader() {
+    // given
+    var output = new StringBuilder();
+
+    // when
+    Conversion.PERSON_DATA.convert("BGNLSN93P19H294L", CALCULATOR, output);
+
+    // then
+    assertThat(output.toString().split(";", -1)).hasSameSizeAs(Conversion.PERSON_DATA.getHeader().split(";", -1));
+  }
+
+  static class ConversionTestArgumentsProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of(Conversion.TAX_CODE, "MALE;Alessandro;Bagnoli;1993-09-19;Rimini;RN", true,
+              "BGNLSN93P19H294L;"),
+          Arguments.of(Conversion.TAX_CODE, "male; Alessandro ;Bagnoli;1993-09-19;;;Francia", true,
+              "BGNLSN93P19Z110I;"),
+          Arguments.of(Conversion.TAX_CODE, "MALE;Alessandro;Bagnoli;1993-09-19;fakeCity;fakeProvince", false,
+              ";The city fakeCity and province fakeProvince do not exist"),
+          Arguments.of(Conversion.TAX_CODE, "MALE;;Bagnoli;1993-09-19;Rimini;RN", false,
+              ";missing required property name"),
+          Arguments.of(Conversion.TAX_CODE, "X;Alessandro;Bagnoli;1993-09-19;Rimini;RN", false,
+              ";invalid gender X"),
+          Arguments.of(Conversion.TAX_CODE, "UNSPECIFIED;Alessandro;Bagnoli;1993-09-19;Rimini;RN", false,
+              ";invalid gender UNSPECIFIED"),
+          Arguments.of(Conversion.TAX_CODE, "MALE;Alessandro;Bagnoli;2024-05-01;Rimini;RN", false,
+              ";invalid dateOfBirth 2024-05-01"),
+          Arguments.of(Conversion.TAX_CODE, "MALE;Alessandro;Bagnoli;19/09/1993;Rimini;RN", false,
+              ";invalid dateOfBirth 19/09/1993"),
+          Arguments.of(Conversion.TAX_CODE, "MALE;Alessandro", false,
+              ";expected 6 or 7 fields, found 2"),
+          Arguments.of(Conversion.PERSON_DATA, "BGNLSN93P19H294L;ignored", true,
+              "BGNLSN93P19H294L;MALE;LSN;BGN;1993-09-19;RIMINI;RN;"),
+          Arguments.of(Conversion.PERSON_DATA, "BGNLSN93P19H294X", false,
+              ";;;;;;;invalid taxCode: INVALID_CONTROL_CHARACTER"),
+          Arguments.of(Conversion.PERSON_DATA, "", false,
+              ";;;;;;;invalid taxCode: MISSING")
+      );
+    }
+
+  }
+
+}
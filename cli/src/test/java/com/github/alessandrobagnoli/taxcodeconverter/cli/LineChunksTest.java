@@ -0,0 +1,99 @@
+package com.github.alessandrobagnoli.taxcodeconverter.cli;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import com.github.alessandrobagnoli.taxcodeconverter.cli.LineChunks.Chunk;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineChunksTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @SneakyThrows
+  @Test
+  void splitShouldMoveTheBoundariesToTheNextLine() {
+    // given
+    var file = Files.writeString(tempDir.resolve("input.csv"), "aaaa\nbb\ncccccc\nd\n");
+
+    // when
+    try (var channel = FileChannel.open(file)) {
+      var actual = LineChunks.split(channel, 3);
+
+      // then
+      assertThat(actual).containsExactly(
+          new Chunk(0, 0, 8),
+          new Chunk(1, 8, 15),
+          new Chunk(2, 15, 17));
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void splitShouldReturnFewerChunksThanLines() {
+    // given
+    var file = Files.writeString(tempDir.resolve("input.csv"), "aaaaaaaa\nb");
+
+    // when
+    try (var channel = FileChannel.open(file)) {
+      var actual = LineChunks.split(channel, 4);
+
+      // then
+      assertThat(actual).containsExactly(
+          new Chunk(0, 0, 9),
+          new Chunk(1, 9, 10));
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void splitShouldReturnNoChunkWhenFileIsEmpty() {
+    // given
+    var file = Files.writeString(tempDir.resolve("input.csv"), "");
+
+    // when
+    try (var channel = FileChannel.open(file)) {
+      var actual = LineChunks.split(channel, 4);
+
+      // then
+      assertThat(actual).isEmpty();
+    }
+  }
+
+  @Test
+  void forEachLineShouldStripTheTerminators() {
+    // given
+    var chunk = ByteBuffer.wrap("AGLIÈ\r\n\nrimini\nlast".getBytes(StandardCharsets.UTF_8));
+    var actual = new ArrayList<String>();
+
+    // when
+    LineChunks.forEachLine(chunk, actual::add);
+
+    // then
+    assertThat(actual).containsExactly("AGLIÈ", "", "rimini", "last");
+  }
+
+  @Test
+  void forEachLineShouldDecodeLinesLongerThanTheLineBuffer() {
+    // given
+    var line = "A".repeat(1000);
+    var chunk = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+    var actual = new ArrayList<String>();
+
+    // when
+    LineChunks.forEachLine(chunk, actual::add);
+
+    // then
+    assertThat(actual).containsExactly(line);
+  }
+
+}
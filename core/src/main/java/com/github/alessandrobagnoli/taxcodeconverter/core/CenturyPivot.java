@@ -0,0 +1,53 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Provides the two-digit current year used to assign a century to the year of birth found in a tax code. The value is
+ * computed from the {@link Clock} once and reused until the year rolls over, so the hot path only reads the clock
+ * millis.
+ */
+@RequiredArgsConstructor
+public class CenturyPivot {
+
+  private final Clock clock;
+
+  private volatile Pivot pivot = new Pivot(0, Long.MAX_VALUE, Long.MIN_VALUE);
+
+  public int twoDigitYear() {
+    var current = pivot;
+    var now = clock.millis();
+    if (now < current.validFrom() || now >= current.validUntil()) {
+      current = computePivot();
+      pivot = current;
+    }
+    return current.twoDigitYear();
+  }
+
+  /**
+   * @return the current date in the zone of the clock, the first one a person cannot be born on yet
+   */
+  public LocalDate today() {
+    return LocalDate.now(clock);
+  }
+
+  private Pivot computePivot() {
+    var zone = clock.getZone();
+    var year = LocalDate.now(clock).getYear();
+    return new Pivot(
+        year % 100,
+        LocalDate.ofYearDay(year, 1).atStartOfDay(zone).toInstant().toEpochMilli(),
+        LocalDate.ofYearDay(year + 1, 1).atStartOfDay(zone).toInstant().toEpochMilli());
+  }
+
+  private record Pivot(
+      int twoDigitYear,
+      long validFrom,
+      long validUntil) {
+
+  }
+
+}
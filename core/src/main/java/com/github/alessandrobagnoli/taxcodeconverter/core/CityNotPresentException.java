@@ -0,0 +1,32 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+/**
+ * Thrown when a city, or a country, does not exist. It is the expected answer to a bad request rather than a bug, so
+ * it carries no stack trace and its message is only formatted the first time it is read.
+ */
+public class CityNotPresentException extends RuntimeException {
+
+  private final String format;
+  private final Object[] args;
+  // a racy cache, at worst the message is formatted more than once
+  private String message;
+
+  /**
+   * @param format - the message, as a {@link String#format(String, Object...)} format string
+   * @param args   - the arguments of the format string
+   */
+  public CityNotPresentException(String format, Object... args) {
+    super(null, null, false, false);
+    this.format = format;
+    this.args = args;
+  }
+
+  @Override
+  public String getMessage() {
+    if (message == null) {
+      message = args.length == 0 ? format : String.format(format, args);
+    }
+    return message;
+  }
+
+}
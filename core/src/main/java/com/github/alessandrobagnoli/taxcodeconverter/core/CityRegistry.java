@@ -0,0 +1,177 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCodeIndex;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityDataset;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityDatasetCompiler;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityPrefixIndex;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.Place;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.PlaceNormalizer;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds the versions of the city dataset, each one valid from a date on, and resolves the cities against the version
+ * that was valid on a given date. A new version is loaded and indexed on the caller thread and then swapped in
+ * atomically, so lookups are never blocked and always see a consistent set of indexes.
+ */
+@Log4j2
+public class CityRegistry {
+
+  private final AtomicReference<Registry> registry;
+
+  /**
+   * @param cityDataset - the dataset loaded at startup, valid for any date
+   */
+  public CityRegistry(CityDataset cityDataset) {
+    this.registry = new AtomicReference<>(Registry.of(List.of(Snapshot.of(cityDataset, LocalDate.MIN))));
+  }
+
+  public CityCSV findByCode(LocalDate date, char letter, int number) {
+    return snapshotAt(date).codes().get(letter, number);
+  }
+
+  /**
+   * Looks the place up as it is first and then, on a miss, by its {@link PlaceNormalizer normalized} form, so that
+   * differences in accents, apostrophes, hyphens and whitespace are tolerated.
+   */
+  public CityCSV findByPlace(LocalDate date, Place place) {
+    var snapshot = snapshotAt(date);
+    var city = snapshot.places().get(place);
+    return city != null ? city : snapshot.normalizedPlaces().get(PlaceNormalizer.normalize(place));
+  }
+
+  /**
+   * @see CityPrefixIndex#search(CharSequence, CharSequence, int)
+   */
+  public List<CityResponse> findByPrefix(LocalDate date, CharSequence prefix, CharSequence province, int limit) {
+    return snapshotAt(date).prefixes().search(prefix, province, limit);
+  }
+
+  /**
+   * @return an identifier that changes whenever a dataset version is loaded
+   */
+  public String version() {
+    return registry.get().version();
+  }
+
+  public List<DatasetVersion> versions() {
+    return registry.get().snapshots().stream()
+        .map(Snapshot::describe)
+        .toList();
+  }
+
+  /**
+   * Loads a dataset, either a cities csv file or a binary dataset, replacing the version valid from the same date.
+   *
+   * @throws IllegalStateException if the dataset does not pass the validation of {@link CityDatasetCompiler}
+   */
+  public synchronized DatasetVersion load(Path path, LocalDate validFrom) throws IOException {
+    var snapshot = Snapshot.of(readDataset(Files.readAllBytes(path)), validFrom);
+    var current = registry.get();
+    var snapshots = new ArrayList<>(current.snapshots());
+    snapshots.removeIf(s -> s.validFrom().equals(validFrom));
+    snapshots.add(snapshot);
+    snapshots.sort(Comparator.comparing(Snapshot::validFrom));
+    registry.set(Registry.of(snapshots));
+    log.info("Loaded {} cities from {}, version {} valid from {}", snapshot.size(), path, snapshot.version(),
+        validFrom);
+    return snapshot.describe();
+  }
+
+  private Snapshot snapshotAt(LocalDate date) {
+    var snapshots = registry.get().snapshots();
+    for (var i = snapshots.size() - 1; i > 0; i--) {
+      var snapshot = snapshots.get(i);
+      if (!snapshot.validFrom().isAfter(date)) {
+        return snapshot;
+      }
+    }
+    // dates before the oldest version resolve against the oldest one
+    return snapshots.get(0);
+  }
+
+  private static CityDataset readDataset(byte[] content) throws IOException {
+    if (!CityDataset.isBinary(content)) {
+      return CityDatasetCompiler.compile(content);
+    }
+    var dataset = CityDataset.readFrom(new ByteArrayInputStream(content));
+    var errors = CityDatasetCompiler.validate(dataset.cities());
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(String.format("Invalid city dataset:%n%s", String.join("\n", errors)));
+    }
+    return dataset;
+  }
+
+  @Builder
+  public record DatasetVersion(
+      String version,
+      LocalDate validFrom,
+      int cities) {
+
+  }
+
+  private record Registry(
+      List<Snapshot> snapshots,
+      String version) {
+
+    static Registry of(List<Snapshot> snapshots) {
+      return new Registry(List.copyOf(snapshots), snapshots.stream()
+          .map(snapshot -> snapshot.version() + "@" + snapshot.validFrom())
+          .collect(Collectors.joining("+")));
+    }
+
+  }
+
+  private record Snapshot(
+      String version,
+      LocalDate validFrom,
+      CityCodeIndex codes,
+      Map<Place, CityCSV> places,
+      Map<Place, CityCSV> normalizedPlaces,
+      CityPrefixIndex prefixes) {
+
+    static Snapshot of(CityDataset dataset, LocalDate validFrom) {
+      var cities = dataset.cities();
+      var places = cities.stream().collect(Collectors.toUnmodifiableMap(
+          city -> Place.builder()
+              .cityName(city.getName())
+              .province(city.getProvince())
+              .build(),
+          Function.identity()));
+      var normalizedPlaces = places.entrySet().stream().collect(Collectors.toUnmodifiableMap(
+          entry -> PlaceNormalizer.normalize(entry.getKey()),
+          Map.Entry::getValue));
+      return new Snapshot(dataset.version(), validFrom, new CityCodeIndex(cities), places, normalizedPlaces,
+          new CityPrefixIndex(cities));
+    }
+
+    int size() {
+      return codes.size();
+    }
+
+    DatasetVersion describe() {
+      return DatasetVersion.builder()
+          .version(version)
+          .validFrom(validFrom)
+          .cities(size())
+          .build();
+    }
+
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Validates many tax codes of 16 chars packed one after the other as ASCII bytes. Each code is read as two longs and
+ * checked 8 bytes at a time (SWAR): the classes of all the chars in a couple of mask operations, the weights of the
+ * even positions with a multiply-and-shift sum, only the odd positions still going through the lookup table. The codes
+ * the kernel does not cover, homocodes and invalid codes, fall back to {@link TaxCodeValidator}, so the results are
+ * the same as validating each code on its own.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PackedTaxCodeValidator {
+
+  public static final int CODE_BYTES = TaxCodeEncoder.TAX_CODE_LENGTH;
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  // the high bit of the bytes where a letter, or a digit, is expected; the words are read in big-endian order
+  private static final long FIRST_WORD_LETTERS = 0x8080808080800000L;
+  private static final long FIRST_WORD_DIGITS = 0x0000000000008080L;
+  private static final long SECOND_WORD_LETTERS = 0x8000008000000080L;
+  private static final long SECOND_WORD_DIGITS = 0x0080800080808000L;
+  // the even positions, 1 to 13, i.e. the low byte of each 16-bit lane, the control char of the second word excluded
+  private static final long FIRST_WORD_EVEN_POSITIONS = 0x00FF00FF00FF00FFL;
+  private static final long SECOND_WORD_EVEN_POSITIONS = 0x00FF00FF00FF0000L;
+  private static final long LANE_SUM = 0x0001000100010001L;
+  private static final boolean[] MONTH_LETTERS = new boolean['Z' + 1];
+
+  static {
+    for (var c : TaxCodeEncoder.MONTH_CHARS) {
+      MONTH_LETTERS[c] = true;
+    }
+  }
+
+  /**
+   * @param codes - the bytes from the position to the limit, a multiple of 16
+   * @return the validity of each code, in order
+   */
+  public static TaxCodeValidity[] validate(ByteBuffer codes) {
+    if (codes.remaining() % CODE_BYTES != 0) {
+      throw new IllegalArgumentException("The packed tax codes must be 16 bytes each, found "
+          + codes.remaining() + " bytes");
+    }
+    var buffer = codes.slice().order(ByteOrder.BIG_ENDIAN);
+    var validities = new TaxCodeValidity[buffer.remaining() / CODE_BYTES];
+    for (var i = 0; i < validities.length; i++) {
+      var offset = i * CODE_BYTES;
+      validities[i] = validate(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+      if (validities[i] == null) {
+        validities[i] = validateScalar(buffer, offset);
+      }
+    }
+    return validities;
+  }
+
+  public static TaxCodeValidity[] validate(byte[] codes) {
+    return validate(ByteBuffer.wrap(codes));
+  }
+
+  // null when the code is not made only of letters and digits at their positions, i.e. a homocode or an invalid one
+  private static TaxCodeValidity validate(long first, long second) {
+    if (((first | second) & HIGH_BITS) != 0) {
+      return null;
+    }
+    var firstLetters = inRange(first, 'A', 'Z');
+    var firstDigits = inRange(first, '0', '9');
+    var secondLetters = inRange(second, 'A', 'Z');
+    var secondDigits = inRange(second, '0', '9');
+    if ((firstLetters & FIRST_WORD_LETTERS) != FIRST_WORD_LETTERS
+        || (firstDigits & FIRST_WORD_DIGITS) != FIRST_WORD_DIGITS
+        || (secondLetters & SECOND_WORD_LETTERS) != SECOND_WORD_LETTERS
+        || (secondDigits & SECOND_WORD_DIGITS) != SECOND_WORD_DIGITS
+        || !MONTH_LETTERS[(int) (second >>> 56)]) {
+      return null;
+    }
+    var sum = laneSum(weights(first, firstDigits) & FIRST_WORD_EVEN_POSITIONS)
+        + laneSum(weights(second, secondDigits) & SECOND_WORD_EVEN_POSITIONS)
+        + oddWeights(first) + oddWeights(second);
+    return (second & 0xFF) == 'A' + sum % 26 ? TaxCodeValidity.VALID : TaxCodeValidity.INVALID_CONTROL_CHARACTER;
+  }
+
+  // the high bit of each byte is set when the byte, below 0x80, is within the range
+  private static long inRange(long word, char from, char to) {
+    var biased = word | HIGH_BITS;
+    return (biased - ONES * from) & ~(biased - ONES * (to + 1)) & HIGH_BITS;
+  }
+
+  // the even weight of each byte, its distance from '0' for the digits and from 'A' for the letters
+  private static long weights(long word, long digits) {
+    var digitBytes = (digits >>> 7) * 0xFF;
+    return word - ((digitBytes & ONES * '0') | (~digitBytes & ONES * 'A'));
+  }
+
+  private static int laneSum(long lanes) {
+    return (int) ((lanes * LANE_SUM) >>> 48);
+  }
+
+  private static int oddWeights(long word) {
+    return TaxCodeEncoder.ODD_WEIGHTS[(int) (word >>> 56)]
+        + TaxCodeEncoder.ODD_WEIGHTS[(int) (word >>> 40) & 0xFF]
+        + TaxCodeEncoder.ODD_WEIGHTS[(int) (word >>> 24) & 0xFF]
+        + TaxCodeEncoder.ODD_WEIGHTS[(int) (word >>> 8) & 0xFF];
+  }
+
+  private static TaxCodeValidity validateScalar(ByteBuffer buffer, int offset) {
+    var code = new byte[CODE_BYTES];
+    buffer.get(offset, code);
+    // one char per byte, the bytes above 0x7F become chars the validator rejects
+    return TaxCodeValidator.validate(new String(code, StandardCharsets.ISO_8859_1));
+  }
+
+}
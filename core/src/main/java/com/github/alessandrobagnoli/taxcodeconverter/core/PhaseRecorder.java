@@ -0,0 +1,27 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+/**
+ * Receives the time spent in each phase of a conversion, e.g. to publish it as a metric. The phases are timed with
+ * {@link System#nanoTime()} and handed over as they end, so that a recorder adds no allocation to the hot path.
+ */
+@FunctionalInterface
+public interface PhaseRecorder {
+
+  // Records nothing, for the callers that do not need the timings
+  PhaseRecorder NONE = (phase, startNanos) -> startNanos;
+
+  /**
+   * @param phase      - the phase that ended now
+   * @param startNanos - the {@link System#nanoTime()} when the phase started
+   * @return the {@link System#nanoTime()} when the phase ended, i.e. when the next one starts
+   */
+  long record(Phase phase, long startNanos);
+
+  enum Phase {
+    VALIDATION,
+    DECODING,
+    ENCODING,
+    CITY_LOOKUP
+  }
+
+}
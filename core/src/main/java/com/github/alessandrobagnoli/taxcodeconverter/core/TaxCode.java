@@ -0,0 +1,151 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.Arrays;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+
+/**
+ * A valid tax code packed losslessly into a {@code long}, for the callers holding many of them at once, e.g. the
+ * dedup and join stages of a bulk job: 8 bytes instead of the ~56 of a 16-char {@link String}, and none at all in
+ * a {@link TaxCodeSet} or a {@link TaxCodeMap}. The static {@link #pack(CharSequence)} and {@link #unpack(long)} work
+ * on the bare {@code long}, this record only wraps it where an object is needed.
+ * <p>
+ * A 16-char code is packed as a mixed-radix number of its first 15 chars (the control char is recomputed when
+ * unpacked), each homocode letter stored as its digit, times 8, plus the number of homocode letters. Since they are
+ * substituted from right to left, that number is enough to restore them; codes with homocode letters out of that
+ * order are rejected. The result is never negative. An 11-digit numeric code has the sign bit set as a flag, over
+ * its numeric value.
+ * <p>
+ * The packed values are ordered as the strings of their codes once the homocode letters are replaced by their digits,
+ * each code followed by its homocodes, and all the numeric codes before them.
+ */
+public record TaxCode(long packed) implements Comparable<TaxCode> {
+
+  private static final int NUMERIC_TAX_CODE_LENGTH = 11;
+  private static final long NUMERIC_FLAG = Long.MIN_VALUE;
+  private static final long NUMERIC_LIMIT = 100_000_000_000L;
+  private static final int HOMOCODE_LEVELS = 8;
+  // the positions of the digits, in the order the Revenue Agency substitutes them with the homocode letters
+  private static final int[] SUBSTITUTION_ORDER = {14, 13, 12, 10, 9, 7, 6};
+  private static final int[] RADIXES = {26, 26, 26, 26, 26, 26, 10, 10, 12, 10, 10, 26, 10, 10, 10};
+  private static final long PERSONAL_LIMIT;
+  private static final int[] MONTHS = new int['Z' + 1];
+  private static final int[] DIGITS = new int['Z' + 1];
+
+  static {
+    var limit = 1L;
+    for (var radix : RADIXES) {
+      limit *= radix;
+    }
+    PERSONAL_LIMIT = limit * HOMOCODE_LEVELS;
+    for (var i = 0; i < TaxCodeEncoder.MONTH_CHARS.length; i++) {
+      MONTHS[TaxCodeEncoder.MONTH_CHARS[i]] = i;
+    }
+    Arrays.fill(DIGITS, -1);
+    for (var i = 0; i < 10; i++) {
+      DIGITS['0' + i] = i;
+      DIGITS[TaxCodeDecoder.HOMOCODE_LETTERS.charAt(i)] = i;
+    }
+  }
+
+  public TaxCode {
+    if (!isPacked(packed)) {
+      throw new IllegalArgumentException("The value " + packed + " is not a packed tax code");
+    }
+  }
+
+  public static TaxCode of(CharSequence taxCode) {
+    return new TaxCode(pack(taxCode));
+  }
+
+  /**
+   * @throws IllegalArgumentException when the code is not valid, see {@link TaxCodeValidator}, or its homocode letters
+   *                                  are not substituted from right to left
+   */
+  public static long pack(CharSequence taxCode) {
+    var validity = TaxCodeValidator.validate(taxCode);
+    if (validity != TaxCodeValidity.VALID) {
+      throw new IllegalArgumentException("invalid taxCode: " + validity);
+    }
+    if (taxCode.length() == NUMERIC_TAX_CODE_LENGTH) {
+      var value = 0L;
+      for (var i = 0; i < NUMERIC_TAX_CODE_LENGTH; i++) {
+        value = value * 10 + taxCode.charAt(i) - '0';
+      }
+      return NUMERIC_FLAG | value;
+    }
+    var level = 0;
+    while (level < SUBSTITUTION_ORDER.length && taxCode.charAt(SUBSTITUTION_ORDER[level]) > '9') {
+      level++;
+    }
+    for (var i = level; i < SUBSTITUTION_ORDER.length; i++) {
+      if (taxCode.charAt(SUBSTITUTION_ORDER[i]) > '9') {
+        throw new IllegalArgumentException("The homocode letters of " + taxCode + " are not substituted from right "
+            + "to left");
+      }
+    }
+    return packValid(taxCode) + level;
+  }
+
+  /**
+   * @return the code as returned by {@link TaxCodeEncoder}, i.e. valid and without homocode letters, packed
+   */
+  static long packValid(CharSequence taxCode) {
+    var value = 0L;
+    for (var i = 0; i < RADIXES.length; i++) {
+      var c = taxCode.charAt(i);
+      value = value * RADIXES[i] + switch (RADIXES[i]) {
+        case 26 -> c - 'A';
+        case 12 -> MONTHS[c];
+        default -> DIGITS[c];
+      };
+    }
+    return value * HOMOCODE_LEVELS;
+  }
+
+  /**
+   * @throws IllegalArgumentException when the value was not returned by {@link #pack(CharSequence)}
+   */
+  public static String unpack(long packed) {
+    if (!isPacked(packed)) {
+      throw new IllegalArgumentException("The value " + packed + " is not a packed tax code");
+    }
+    if (packed < 0) {
+      var digits = Long.toString(packed & ~NUMERIC_FLAG);
+      return "0".repeat(NUMERIC_TAX_CODE_LENGTH - digits.length()) + digits;
+    }
+    var level = (int) (packed % HOMOCODE_LEVELS);
+    var value = packed / HOMOCODE_LEVELS;
+    var code = new char[TaxCodeEncoder.TAX_CODE_LENGTH];
+    for (var i = RADIXES.length - 1; i >= 0; i--) {
+      var digit = (int) (value % RADIXES[i]);
+      value /= RADIXES[i];
+      code[i] = switch (RADIXES[i]) {
+        case 26 -> (char) ('A' + digit);
+        case 12 -> TaxCodeEncoder.MONTH_CHARS[digit];
+        default -> (char) ('0' + digit);
+      };
+    }
+    for (var i = 0; i < level; i++) {
+      var position = SUBSTITUTION_ORDER[i];
+      code[position] = TaxCodeDecoder.HOMOCODE_LETTERS.charAt(code[position] - '0');
+    }
+    code[TaxCodeEncoder.TAX_CODE_LENGTH - 1] = TaxCodeEncoder.controlCharacter(code);
+    return new String(code);
+  }
+
+  public static boolean isPacked(long value) {
+    return value < 0 ? (value & ~NUMERIC_FLAG) < NUMERIC_LIMIT : value < PERSONAL_LIMIT;
+  }
+
+  @Override
+  public int compareTo(TaxCode other) {
+    return Long.compare(packed, other.packed);
+  }
+
+  @Override
+  public String toString() {
+    return unpack(packed);
+  }
+
+}
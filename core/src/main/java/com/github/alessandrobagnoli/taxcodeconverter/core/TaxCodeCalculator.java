@@ -0,0 +1,141 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.util.Optional;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.PhaseRecorder.Phase;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.Place;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converts tax codes to person data and back. It is immutable and thread-safe, so a single instance can be shared by
+ * all the callers, e.g. the one returned by {@link #create(Clock)}.
+ */
+@RequiredArgsConstructor
+public class TaxCodeCalculator {
+
+  static final String FOREIGN_PROVINCE = "EE";
+
+  private final CityRegistry cityRegistry;
+  private final CenturyPivot centuryPivot;
+  private final PhaseRecorder phaseRecorder;
+
+  /**
+   * @return a calculator over the city dataset bundled with this library, recording no timings
+   */
+  public static TaxCodeCalculator create(Clock clock) {
+    return new TaxCodeCalculator(new CityRegistry(new CityCSVLoader().loadDataset()), new CenturyPivot(clock),
+        PhaseRecorder.NONE);
+  }
+
+  public CalculatePersonDataResponse reverseTaxCode(String taxCode) {
+    var start = System.nanoTime();
+    var decoded = TaxCodeDecoder.decode(taxCode, centuryPivot.twoDigitYear());
+    start = phaseRecorder.record(Phase.DECODING, start);
+
+    // city
+    var city = cityRegistry.findByCode(decoded.dateOfBirth(), decoded.cityLetter(), decoded.cityNumber());
+    phaseRecorder.record(Phase.CITY_LOOKUP, start);
+    if (city == null) {
+      throw new CityNotPresentException("The city with code %c%03d does not exist", decoded.cityLetter(),
+          decoded.cityNumber());
+    }
+
+    return CalculatePersonDataResponse.builder()
+        .name(decoded.name())
+        .surname(decoded.surname())
+        .gender(decoded.gender())
+        .dateOfBirth(decoded.dateOfBirth())
+        .birthPlace(city.getName().toUpperCase())
+        .province(city.getProvince().toUpperCase())
+        .taxCode(taxCode)
+        .homocode(decoded.substitutions() != 0)
+        .substitutedPositions(TaxCodeDecoder.substitutedPositions(decoded.substitutions()))
+        .build();
+  }
+
+  /**
+   * @return the version of everything the reverse of a tax code depends on besides the code itself, i.e. the century
+   * pivot and the loaded city datasets
+   */
+  public String reverseTaxCodeVersion() {
+    return centuryPivot.twoDigitYear() + "+" + cityRegistry.version();
+  }
+
+  /**
+   * @throws IllegalArgumentException when the gender is neither male nor female or the date of birth is not in the past
+   */
+  public String calculateTaxCode(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    return new String(encode(calculateTaxCodeRequest));
+  }
+
+  /**
+   * @return the same code as {@link #calculateTaxCode(CalculateTaxCodeRequest)}, as packed by {@link TaxCode}, without
+   * building its {@link String}
+   */
+  public long calculatePackedTaxCode(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    return TaxCode.packValid(CharBuffer.wrap(encode(calculateTaxCodeRequest)));
+  }
+
+  private char[] encode(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    checkEncodable(calculateTaxCodeRequest);
+    var start = System.nanoTime();
+    var country = calculateTaxCodeRequest.country();
+    var city = country == null || country.isBlank()
+        ? findCity(calculateTaxCodeRequest)
+        : findCountry(calculateTaxCodeRequest);
+    start = phaseRecorder.record(Phase.CITY_LOOKUP, start);
+
+    var taxCode = TaxCodeEncoder.encode(
+        calculateTaxCodeRequest.surname(),
+        calculateTaxCodeRequest.name(),
+        calculateTaxCodeRequest.dateOfBirth(),
+        calculateTaxCodeRequest.gender(),
+        city.getCode());
+    phaseRecorder.record(Phase.ENCODING, start);
+    return taxCode;
+  }
+
+  // the service validates its requests beforehand, these checks guard the callers embedding the calculator directly,
+  // since the encoder would otherwise write the day of birth of an unspecified gender as a female one
+  private void checkEncodable(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    var gender = calculateTaxCodeRequest.gender();
+    if (gender != Gender.MALE && gender != Gender.FEMALE) {
+      throw new IllegalArgumentException("invalid gender " + gender);
+    }
+    var dateOfBirth = calculateTaxCodeRequest.dateOfBirth();
+    if (dateOfBirth == null || !dateOfBirth.isBefore(centuryPivot.today())) {
+      throw new IllegalArgumentException("invalid dateOfBirth " + dateOfBirth);
+    }
+  }
+
+  private CityCSV findCity(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    var cityName = calculateTaxCodeRequest.birthPlace();
+    var province = calculateTaxCodeRequest.province();
+    var place = Place.builder()
+        .cityName(cityName.toUpperCase())
+        .province(province.toUpperCase())
+        .build();
+    return Optional.ofNullable(cityRegistry.findByPlace(calculateTaxCodeRequest.dateOfBirth(), place))
+        .orElseThrow(() -> new CityNotPresentException("The city %s and province %s do not exist", cityName,
+            province));
+  }
+
+  // the foreign countries are registered as the cities of the province EE, with a Z code
+  private CityCSV findCountry(CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    var country = calculateTaxCodeRequest.country();
+    var place = Place.builder()
+        .cityName(country.toUpperCase())
+        .province(FOREIGN_PROVINCE)
+        .build();
+    return Optional.ofNullable(cityRegistry.findByPlace(calculateTaxCodeRequest.dateOfBirth(), place))
+        .orElseThrow(() -> new CityNotPresentException("The country %s does not exist", country));
+  }
+
+}
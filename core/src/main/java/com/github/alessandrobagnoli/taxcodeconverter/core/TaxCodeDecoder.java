@@ -0,0 +1,124 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parses a tax code in a single pass over its chars, using index arithmetic and precomputed tables instead of
+ * substrings and formatters. Homocodes (codes where the Revenue Agency replaced some digits with the letters
+ * {@code LMNPQRSTUV} to tell apart people sharing the same data) are decoded by mapping those letters back to their
+ * digits in the same pass.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TaxCodeDecoder {
+
+  static final String HOMOCODE_LETTERS = "LMNPQRSTUV";
+
+  private static final int FEMALE_DAY_OFFSET = 40;
+  private static final int SUBSTITUTED = 1 << 4;
+  private static final int DIGIT_MASK = SUBSTITUTED - 1;
+  private static final int FIELD_SHIFT = 16;
+  private static final int FIELD_MASK = (1 << FIELD_SHIFT) - 1;
+  private static final List<Integer> NO_SUBSTITUTIONS = List.of();
+  private static final int[] MONTHS = new int[128];
+  private static final int[] DIGITS = new int[128];
+
+  static {
+    for (var i = 0; i < TaxCodeEncoder.MONTH_CHARS.length; i++) {
+      MONTHS[TaxCodeEncoder.MONTH_CHARS[i]] = i + 1;
+      MONTHS[Character.toLowerCase(TaxCodeEncoder.MONTH_CHARS[i])] = i + 1;
+    }
+    Arrays.fill(DIGITS, -1);
+    for (var i = 0; i < 10; i++) {
+      DIGITS['0' + i] = i;
+      DIGITS[HOMOCODE_LETTERS.charAt(i)] = SUBSTITUTED | i;
+    }
+  }
+
+  /**
+   * @param taxCode      - the tax code to be parsed
+   * @param centuryPivot - two-digit years greater or equal to this value belong to the 1900s, the others to the 2000s
+   */
+  static DecodedTaxCode decode(CharSequence taxCode, int centuryPivot) {
+    var letters = new char[6];
+    for (var i = 0; i < letters.length; i++) {
+      letters[i] = Character.toUpperCase(taxCode.charAt(i));
+    }
+    var yearField = numericField(taxCode, 6, 2);
+    var month = taxCode.charAt(8) < MONTHS.length ? MONTHS[taxCode.charAt(8)] : 0;
+    var dayField = numericField(taxCode, 9, 2);
+    var cityField = numericField(taxCode, 12, 3);
+
+    var twoDigitYear = yearField & FIELD_MASK;
+    var day = dayField & FIELD_MASK;
+    var female = day > 31;
+
+    return DecodedTaxCode.builder()
+        .surname(new String(letters, 0, 3))
+        .name(new String(letters, 3, 3))
+        .gender(female ? Gender.FEMALE : Gender.MALE)
+        .dateOfBirth(LocalDate.of(
+            twoDigitYear >= centuryPivot ? 1900 + twoDigitYear : 2000 + twoDigitYear,
+            month,
+            female ? day - FEMALE_DAY_OFFSET : day))
+        .cityLetter(taxCode.charAt(11))
+        .cityNumber(cityField & FIELD_MASK)
+        .substitutions((yearField | dayField | cityField) >>> FIELD_SHIFT)
+        .build();
+  }
+
+  /**
+   * @param substitutions - the bitmask of {@link DecodedTaxCode#substitutions()}
+   * @return the 1-based positions of the substituted chars, in ascending order
+   */
+  static List<Integer> substitutedPositions(int substitutions) {
+    if (substitutions == 0) {
+      return NO_SUBSTITUTIONS;
+    }
+    var positions = new ArrayList<Integer>(Integer.bitCount(substitutions));
+    for (var remaining = substitutions; remaining != 0; remaining &= remaining - 1) {
+      positions.add(Integer.numberOfTrailingZeros(remaining) + 1);
+    }
+    return positions;
+  }
+
+  // Reads a numeric field of the code, where a homocode may have replaced any digit with a letter: the value is
+  // returned in the low 16 bits and the indexes of the substituted chars as a bitmask in the high 16 bits.
+  private static int numericField(CharSequence taxCode, int from, int length) {
+    var value = 0;
+    var substitutions = 0;
+    for (var i = from; i < from + length; i++) {
+      var c = taxCode.charAt(i);
+      var digit = c < DIGITS.length ? DIGITS[c] : -1;
+      if (digit < 0) {
+        throw new NumberFormatException(
+            String.format("For input string: \"%s\"", taxCode.subSequence(from, from + length)));
+      }
+      if ((digit & SUBSTITUTED) != 0) {
+        substitutions |= 1 << i;
+      }
+      value = value * 10 + (digit & DIGIT_MASK);
+    }
+    return substitutions << FIELD_SHIFT | value;
+  }
+
+  @Builder
+  record DecodedTaxCode(
+      String surname,
+      String name,
+      Gender gender,
+      LocalDate dateOfBirth,
+      char cityLetter,
+      int cityNumber,
+      int substitutions) {
+
+  }
+
+}
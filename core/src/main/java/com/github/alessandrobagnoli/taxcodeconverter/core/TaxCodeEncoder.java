@@ -0,0 +1,187 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.time.LocalDate;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Builds tax codes working on primitive chars and static lookup tables only: the sole allocations per call are the
+ * 16-char buffer and, when the caller needs one, the resulting {@link String}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TaxCodeEncoder {
+
+  static final int TAX_CODE_LENGTH = 16;
+  static final char[] MONTH_CHARS = {'A', 'B', 'C', 'D', 'E', 'H', 'L', 'M', 'P', 'R', 'S', 'T'};
+  static final int[] ODD_WEIGHTS = new int['Z' + 1];
+  static final int[] EVEN_WEIGHTS = new int['Z' + 1];
+
+  private static final char FILLER = 'X';
+  private static final int MAX_CONSONANTS = 4;
+  private static final int MAX_VOWELS = 3;
+  private static final char[] ASCII_LETTERS = new char[128];
+  private static final boolean[] VOWELS = new boolean['Z' + 1];
+
+  static {
+    var oddWeights = new int[]{1, 0, 5, 7, 9, 13, 15, 17, 19, 21, 2, 4, 18, 20, 11, 3, 6, 8, 12, 14, 16, 10, 22, 25,
+        24, 23};
+    for (var i = 0; i < 26; i++) {
+      ODD_WEIGHTS['A' + i] = oddWeights[i];
+      EVEN_WEIGHTS['A' + i] = i;
+      ASCII_LETTERS['A' + i] = (char) ('A' + i);
+      ASCII_LETTERS['a' + i] = (char) ('A' + i);
+    }
+    for (var i = 0; i < 10; i++) {
+      ODD_WEIGHTS['0' + i] = oddWeights[i];
+      EVEN_WEIGHTS['0' + i] = i;
+    }
+    for (var vowel : new char[]{'A', 'E', 'I', 'O', 'U'}) {
+      VOWELS[vowel] = true;
+    }
+  }
+
+  static char[] encode(String surname, String name, LocalDate dateOfBirth, Gender gender, String cityCode) {
+    var code = new char[TAX_CODE_LENGTH];
+    var letters = new char[MAX_CONSONANTS + MAX_VOWELS];
+
+    // surname
+    encodeSurname(letters, splitLetters(surname, letters), code);
+
+    // name
+    encodeName(letters, splitLetters(name, letters), code);
+
+    // year
+    var year = dateOfBirth.getYear();
+    var yearOfEra = (year >= 1 ? year : 1 - year) % 100;
+    code[6] = (char) ('0' + yearOfEra / 10);
+    code[7] = (char) ('0' + yearOfEra % 10);
+
+    // month
+    code[8] = MONTH_CHARS[dateOfBirth.getMonthValue() - 1];
+
+    // day
+    var day = gender == Gender.MALE ? dateOfBirth.getDayOfMonth() : dateOfBirth.getDayOfMonth() + 40;
+    code[9] = (char) ('0' + day / 10);
+    code[10] = (char) ('0' + day % 10);
+
+    // birth city
+    cityCode.getChars(0, 4, code, 11);
+
+    // control char
+    code[15] = controlCharacter(code);
+
+    return code;
+  }
+
+  static char controlCharacter(char[] code) {
+    var sum = 0;
+    for (var i = 0; i < TAX_CODE_LENGTH - 1; i += 2) {
+      sum += ODD_WEIGHTS[code[i]];
+    }
+    for (var i = 1; i < TAX_CODE_LENGTH - 1; i += 2) {
+      sum += EVEN_WEIGHTS[code[i]];
+    }
+    return (char) ('A' + sum % 26);
+  }
+
+  private static void encodeSurname(char[] letters, int counts, char[] code) {
+    var consonants = consonants(counts);
+    if (consonants >= 3) {
+      System.arraycopy(letters, 0, code, 0, 3);
+      return;
+    }
+    fill(letters, consonants, vowels(counts), code, 0);
+  }
+
+  private static void encodeName(char[] letters, int counts, char[] code) {
+    var consonants = consonants(counts);
+    if (consonants >= MAX_CONSONANTS) {
+      code[3] = letters[0];
+      code[4] = letters[2];
+      code[5] = letters[3];
+      return;
+    }
+    if (consonants == 3) {
+      System.arraycopy(letters, 0, code, 3, 3);
+      return;
+    }
+    fill(letters, consonants, vowels(counts), code, 3);
+  }
+
+  // Less than three consonants: they are followed by the vowels and padded with 'X'. With exactly two consonants a
+  // single vowel is ignored and 'X' is used instead, mirroring the behaviour the service always had.
+  private static void fill(char[] letters, int consonants, int vowels, char[] code, int offset) {
+    var usableVowels = consonants == 2 && vowels < 2 ? 0 : vowels;
+    for (var i = 0; i < 3; i++) {
+      if (i < consonants) {
+        code[offset + i] = letters[i];
+      } else if (i - consonants < usableVowels) {
+        code[offset + i] = letters[MAX_CONSONANTS + i - consonants];
+      } else {
+        code[offset + i] = FILLER;
+      }
+    }
+  }
+
+  // Collects the first consonants and vowels of the uppercase form of the word, ignoring everything that is not a
+  // letter between 'A' and 'Z'. Returns both counts packed in a single int, each one capped to its buffer size.
+  private static int splitLetters(String word, char[] letters) {
+    var counts = 0;
+    for (var i = 0; i < word.length(); i++) {
+      var c = word.charAt(i);
+      if (c < ASCII_LETTERS.length) {
+        counts = collect(ASCII_LETTERS[c], letters, counts);
+      } else {
+        counts = collectNonAscii(c, letters, counts);
+      }
+    }
+    return counts;
+  }
+
+  private static int collectNonAscii(char c, char[] letters, int counts) {
+    var upperCase = Character.toUpperCase(c);
+    if (upperCase >= 'A' && upperCase <= 'Z') {
+      return collect(upperCase, letters, counts);
+    }
+    if (upperCase == c && Character.isLowerCase(c)) {
+      // lowercase chars without a single-char uppercase form (e.g. 'ß' -> "SS") expand to several chars
+      var expanded = String.valueOf(c).toUpperCase();
+      for (var i = 0; i < expanded.length(); i++) {
+        var e = expanded.charAt(i);
+        counts = collect(e < ASCII_LETTERS.length ? ASCII_LETTERS[e] : 0, letters, counts);
+      }
+    }
+    return counts;
+  }
+
+  private static int collect(char letter, char[] letters, int counts) {
+    if (letter < 'A' || letter > 'Z') {
+      return counts;
+    }
+    if (VOWELS[letter]) {
+      var vowels = vowels(counts);
+      if (vowels < MAX_VOWELS) {
+        letters[MAX_CONSONANTS + vowels] = letter;
+        return counts + 1;
+      }
+      return counts;
+    }
+    var consonants = consonants(counts);
+    if (consonants < MAX_CONSONANTS) {
+      letters[consonants] = letter;
+      return counts + (1 << 8);
+    }
+    return counts;
+  }
+
+  private static int consonants(int counts) {
+    return counts >>> 8;
+  }
+
+  private static int vowels(int counts) {
+    return counts & 0xFF;
+  }
+
+}
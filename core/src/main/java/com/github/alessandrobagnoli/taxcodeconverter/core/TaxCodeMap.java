@@ -0,0 +1,127 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * A map keyed by the tax codes packed by {@link TaxCode}, the keys kept in a {@code long[]} without boxing and the
+ * values in a parallel array, e.g. the build side of a hash join. Values cannot be null and keys cannot be removed.
+ * It is not thread-safe.
+ */
+public class TaxCodeMap<V> {
+
+  private long[] keys;
+  private Object[] values;
+  private int size;
+
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+
+    void accept(long packed, V value);
+
+  }
+
+  public TaxCodeMap() {
+    this(TaxCodeTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * @param expectedSize - the number of entries the map can hold before growing
+   */
+  public TaxCodeMap(int expectedSize) {
+    var capacity = TaxCodeTables.capacity(expectedSize);
+    keys = TaxCodeTables.newKeys(capacity);
+    values = new Object[capacity];
+  }
+
+  /**
+   * @return the previous value of the code, or null
+   */
+  public V put(long packed, V value) {
+    Objects.requireNonNull(value, "value");
+    var slot = TaxCodeTables.slot(keys, packed);
+    if (keys[slot] == packed) {
+      var previous = value(slot);
+      values[slot] = value;
+      return previous;
+    }
+    insert(slot, packed, value);
+    return null;
+  }
+
+  /**
+   * @return the value of the code, or null when missing
+   */
+  public V get(long packed) {
+    return value(TaxCodeTables.slot(keys, packed));
+  }
+
+  public boolean containsKey(long packed) {
+    return keys[TaxCodeTables.slot(keys, packed)] == packed;
+  }
+
+  /**
+   * @return the value of the code, computed and added when missing
+   */
+  public V computeIfAbsent(long packed, LongFunction<? extends V> mappingFunction) {
+    var slot = TaxCodeTables.slot(keys, packed);
+    if (keys[slot] == packed) {
+      return value(slot);
+    }
+    V value = Objects.requireNonNull(mappingFunction.apply(packed), "value");
+    insert(slot, packed, value);
+    return value;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Visits the entries in no particular order.
+   */
+  public void forEach(EntryConsumer<? super V> action) {
+    for (var i = 0; i < keys.length; i++) {
+      if (keys[i] != TaxCodeTables.FREE) {
+        action.accept(keys[i], value(i));
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private V value(int slot) {
+    return (V) values[slot];
+  }
+
+  private void insert(int slot, long packed, V value) {
+    if (size == TaxCodeTables.threshold(keys.length)) {
+      grow();
+      slot = TaxCodeTables.slot(keys, packed);
+    }
+    keys[slot] = packed;
+    values[slot] = value;
+    size++;
+  }
+
+  private void grow() {
+    if (!TaxCodeTables.canGrow(keys.length)) {
+      throw new IllegalStateException("The map is full with " + size + " entries");
+    }
+    var oldKeys = keys;
+    var oldValues = values;
+    keys = TaxCodeTables.newKeys(oldKeys.length << 1);
+    values = new Object[keys.length];
+    for (var i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != TaxCodeTables.FREE) {
+        var slot = TaxCodeTables.slot(keys, oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+}
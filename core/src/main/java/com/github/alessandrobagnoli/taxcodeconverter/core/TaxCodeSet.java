@@ -0,0 +1,93 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A set of tax codes packed by {@link TaxCode}, kept in a single {@code long[]} without boxing: 11 to 22 bytes per
+ * code depending on the load factor. Codes cannot be removed, as the dedup and join stages it is meant for only add and
+ * look up. It is not thread-safe.
+ */
+public class TaxCodeSet {
+
+  private long[] keys;
+  private int size;
+
+  public TaxCodeSet() {
+    this(TaxCodeTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * @param expectedSize - the number of codes the set can hold before growing
+   */
+  public TaxCodeSet(int expectedSize) {
+    keys = TaxCodeTables.newKeys(TaxCodeTables.capacity(expectedSize));
+  }
+
+  /**
+   * @return whether the code was not in the set yet
+   */
+  public boolean add(long packed) {
+    var slot = TaxCodeTables.slot(keys, packed);
+    if (keys[slot] == packed) {
+      return false;
+    }
+    if (size == TaxCodeTables.threshold(keys.length)) {
+      grow();
+      slot = TaxCodeTables.slot(keys, packed);
+    }
+    keys[slot] = packed;
+    size++;
+    return true;
+  }
+
+  public boolean contains(long packed) {
+    return keys[TaxCodeTables.slot(keys, packed)] == packed;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Visits the codes in no particular order.
+   */
+  public void forEach(LongConsumer action) {
+    for (var key : keys) {
+      if (key != TaxCodeTables.FREE) {
+        action.accept(key);
+      }
+    }
+  }
+
+  /**
+   * @return the codes in no particular order, to be sorted for a merge join
+   */
+  public long[] toArray() {
+    var codes = new long[size];
+    var i = 0;
+    for (var key : keys) {
+      if (key != TaxCodeTables.FREE) {
+        codes[i++] = key;
+      }
+    }
+    return codes;
+  }
+
+  private void grow() {
+    if (!TaxCodeTables.canGrow(keys.length)) {
+      throw new IllegalStateException("The set is full with " + size + " codes");
+    }
+    var oldKeys = keys;
+    keys = TaxCodeTables.newKeys(oldKeys.length << 1);
+    for (var key : oldKeys) {
+      if (key != TaxCodeTables.FREE) {
+        keys[TaxCodeTables.slot(keys, key)] = key;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.Arrays;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The open-addressing tables shared by {@link TaxCodeSet} and {@link TaxCodeMap}: the packed codes are stored in a
+ * power-of-two {@code long[]}, probed linearly from a multiplicative hash of the code.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TaxCodeTables {
+
+  // never returned by TaxCode.pack, it marks the free slots
+  static final long FREE = -1L;
+  static final int DEFAULT_EXPECTED_SIZE = 16;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final int MIN_CAPACITY = 16;
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  static long[] newKeys(int capacity) {
+    var keys = new long[capacity];
+    Arrays.fill(keys, FREE);
+    return keys;
+  }
+
+  /**
+   * @return the smallest power of two holding the given number of keys below the maximum load factor
+   */
+  static int capacity(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("The expected size cannot be negative, found " + expectedSize);
+    }
+    var capacity = MIN_CAPACITY;
+    while (capacity < MAX_CAPACITY && threshold(capacity) < expectedSize) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  // a load factor of 3/4
+  static int threshold(int capacity) {
+    return capacity - (capacity >>> 2);
+  }
+
+  static boolean canGrow(int capacity) {
+    return capacity < MAX_CAPACITY;
+  }
+
+  /**
+   * @return the slot of the key, or the free slot where it would be inserted when missing
+   */
+  static int slot(long[] keys, long key) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("The value " + key + " is not a packed tax code");
+    }
+    var mask = keys.length - 1;
+    // the high bits of the product depend on all the bits of the code
+    var slot = (int) ((key * GOLDEN_RATIO) >>> 32) & mask;
+    while (keys[slot] != key && keys[slot] != FREE) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+}
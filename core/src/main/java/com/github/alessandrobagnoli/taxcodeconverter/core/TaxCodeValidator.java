@@ -0,0 +1,86 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Validates a tax code in a single pass without allocating: every char is checked against the classes allowed at its
+ * position (homocode letters included) while the control character is being computed. Numeric codes of 11 digits, as
+ * assigned to legal entities, are accepted as they are.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TaxCodeValidator {
+
+  private static final int NUMERIC_TAX_CODE_LENGTH = 11;
+  private static final int LETTER = 1;
+  private static final int DIGIT = 1 << 1;
+  private static final int HOMOCODE_LETTER = 1 << 2;
+  private static final int MONTH_LETTER = 1 << 3;
+  private static final int NUMERIC = DIGIT | HOMOCODE_LETTER;
+  private static final int[] CHAR_CLASSES = new int[128];
+  private static final int[] POSITION_CLASSES = {
+      LETTER, LETTER, LETTER, LETTER, LETTER, LETTER,
+      NUMERIC, NUMERIC,
+      MONTH_LETTER,
+      NUMERIC, NUMERIC,
+      LETTER,
+      NUMERIC, NUMERIC, NUMERIC,
+      LETTER
+  };
+
+  static {
+    for (var c = 'A'; c <= 'Z'; c++) {
+      CHAR_CLASSES[c] = LETTER;
+    }
+    for (var c = '0'; c <= '9'; c++) {
+      CHAR_CLASSES[c] = DIGIT;
+    }
+    for (var i = 0; i < TaxCodeDecoder.HOMOCODE_LETTERS.length(); i++) {
+      CHAR_CLASSES[TaxCodeDecoder.HOMOCODE_LETTERS.charAt(i)] |= HOMOCODE_LETTER;
+    }
+    for (var c : TaxCodeEncoder.MONTH_CHARS) {
+      CHAR_CLASSES[c] |= MONTH_LETTER;
+    }
+  }
+
+  public static boolean isValid(CharSequence taxCode) {
+    return validate(taxCode) == TaxCodeValidity.VALID;
+  }
+
+  public static TaxCodeValidity validate(CharSequence taxCode) {
+    if (taxCode == null || taxCode.isEmpty()) {
+      return TaxCodeValidity.MISSING;
+    }
+    if (taxCode.length() == NUMERIC_TAX_CODE_LENGTH) {
+      return validateNumeric(taxCode);
+    }
+    if (taxCode.length() != TaxCodeEncoder.TAX_CODE_LENGTH) {
+      return TaxCodeValidity.INVALID_LENGTH;
+    }
+    var sum = 0;
+    for (var i = 0; i < TaxCodeEncoder.TAX_CODE_LENGTH; i++) {
+      var c = taxCode.charAt(i);
+      if (c >= CHAR_CLASSES.length || (CHAR_CLASSES[c] & POSITION_CLASSES[i]) == 0) {
+        return TaxCodeValidity.INVALID_CHARACTER;
+      }
+      if (i < TaxCodeEncoder.TAX_CODE_LENGTH - 1) {
+        sum += (i & 1) == 0 ? TaxCodeEncoder.ODD_WEIGHTS[c] : TaxCodeEncoder.EVEN_WEIGHTS[c];
+      }
+    }
+    return taxCode.charAt(TaxCodeEncoder.TAX_CODE_LENGTH - 1) == 'A' + sum % 26
+        ? TaxCodeValidity.VALID
+        : TaxCodeValidity.INVALID_CONTROL_CHARACTER;
+  }
+
+  private static TaxCodeValidity validateNumeric(CharSequence taxCode) {
+    for (var i = 0; i < NUMERIC_TAX_CODE_LENGTH; i++) {
+      var c = taxCode.charAt(i);
+      if (c < '0' || c > '9') {
+        return TaxCodeValidity.INVALID_CHARACTER;
+      }
+    }
+    return TaxCodeValidity.VALID;
+  }
+
+}
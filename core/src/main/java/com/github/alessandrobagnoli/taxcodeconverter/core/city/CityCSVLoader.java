@@ -0,0 +1,102 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvToBeanBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Loads the cities from the dataset precompiled at build time by {@link CityDatasetCompiler}, falling back to parsing
+ * the csv files when the dataset is missing (e.g. when running from an IDE) or unreadable.
+ */
+@Log4j2
+public class CityCSVLoader {
+
+  // the foreign countries, whose code starts with Z, are loaded as cities of the province EE
+  private static final List<String> CSV_PATHS = List.of("cities/italian-cities.csv", "cities/foreign-countries.csv");
+
+  public List<CityCSV> parseCities() {
+    return loadDataset().cities();
+  }
+
+  public CityDataset loadDataset() {
+    var resource = CityCSVLoader.class.getClassLoader().getResourceAsStream(CityDataset.RESOURCE_PATH);
+    if (resource != null) {
+      try (var inputStream = resource) {
+        var dataset = CityDataset.readFrom(inputStream);
+        log.info("Loaded {} cities from precompiled dataset {}", dataset.cities().size(), dataset.version());
+        return dataset;
+      } catch (IOException e) {
+        log.warn("Unable to read the precompiled city dataset, falling back to the csv file", e);
+      }
+    }
+    return parseCsv();
+  }
+
+  @SneakyThrows
+  public CityDataset parseCsv() {
+    var csvFiles = new byte[CSV_PATHS.size()][];
+    var cities = new ArrayList<CityCSV>();
+    for (var i = 0; i < csvFiles.length; i++) {
+      try (var inputStream = openResource(CSV_PATHS.get(i))) {
+        csvFiles[i] = inputStream.readAllBytes();
+      }
+      cities.addAll(csvToBeanBuilder(new StringReader(new String(csvFiles[i], StandardCharsets.UTF_8)))
+          .build()
+          .parse());
+    }
+    log.info("Loaded {} cities from csv files", cities.size());
+    return new CityDataset(CityDataset.versionOf(csvFiles), cities);
+  }
+
+  private static InputStream openResource(String path) throws FileNotFoundException {
+    var inputStream = CityCSVLoader.class.getClassLoader().getResourceAsStream(path);
+    if (inputStream == null) {
+      throw new FileNotFoundException(String.format("The resource %s does not exist", path));
+    }
+    return inputStream;
+  }
+
+  static CsvToBeanBuilder<CityCSV> csvToBeanBuilder(Reader reader) {
+    return new CsvToBeanBuilder<CityCSV>(reader)
+        .withType(CityCSV.class)
+        .withIgnoreLeadingWhiteSpace(true)
+        .withIgnoreEmptyLine(true)
+        .withSeparator(';');
+  }
+
+  // Immutable once loaded: there are no setters, opencsv binds the fields through reflection
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CityCSV {
+
+    @CsvBindByName(required = true)
+    private String name;
+    @CsvBindByName(required = true)
+    private String province;
+    @CsvBindByName(required = true)
+    private String code;
+
+  }
+
+
+}
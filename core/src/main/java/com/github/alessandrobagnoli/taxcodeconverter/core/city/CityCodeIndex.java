@@ -0,0 +1,80 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.util.Collection;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+
+/**
+ * Direct-address table of the cities by Belfiore code. A code is a letter followed by three digits, so the whole code
+ * space fits in 26,000 slots and a lookup is plain index arithmetic on the chars: no key allocation and no hashing.
+ */
+public class CityCodeIndex {
+
+  private static final int LETTERS = 26;
+  private static final int NUMBERS = 1000;
+  private static final int CODE_LENGTH = 4;
+
+  private final CityCSV[] cities = new CityCSV[LETTERS * NUMBERS];
+  private final int size;
+
+  public CityCodeIndex(Collection<CityCSV> cities) {
+    for (var city : cities) {
+      var code = city.getCode();
+      var slot = slot(code);
+      if (slot < 0) {
+        throw new IllegalArgumentException(String.format("Invalid city code %s", code));
+      }
+      if (this.cities[slot] != null) {
+        throw new IllegalStateException(String.format("Duplicate city code %s", code));
+      }
+      this.cities[slot] = city;
+    }
+    this.size = cities.size();
+  }
+
+  /**
+   * @param code - the Belfiore code, e.g. {@code H294}
+   * @return the city with the given code, or {@code null} if there is none or the code is malformed
+   */
+  public CityCSV get(CharSequence code) {
+    var slot = slot(code);
+    return slot < 0 ? null : cities[slot];
+  }
+
+  /**
+   * @param letter - the letter of the Belfiore code
+   * @param number - the number made by the three digits of the Belfiore code
+   * @return the city with the given code, or {@code null} if there is none or the code is malformed
+   */
+  public CityCSV get(char letter, int number) {
+    var slot = slot(letter, number);
+    return slot < 0 ? null : cities[slot];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static int slot(CharSequence code) {
+    if (code == null || code.length() != CODE_LENGTH) {
+      return -1;
+    }
+    var number = 0;
+    for (var i = 1; i < CODE_LENGTH; i++) {
+      var digit = code.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      number = number * 10 + digit;
+    }
+    return slot(code.charAt(0), number);
+  }
+
+  private static int slot(char letter, int number) {
+    if (letter < 'A' || letter > 'Z' || number < 0 || number >= NUMBERS) {
+      return -1;
+    }
+    return (letter - 'A') * NUMBERS + number;
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import lombok.Builder;
+
+/**
+ * The cities, and the foreign countries, together with the version of the csv files they come from, i.e. the first 16
+ * hex digits of their SHA-256.
+ * The binary form written at build time by {@link CityDatasetCompiler} is a header, the table of the distinct
+ * provinces and then name, province index and code of every city, so it is loaded with a single bulk read.
+ *
+ * @param version - the version of the csv files
+ * @param cities  - the cities, in the order of the csv files
+ */
+@Builder
+public record CityDataset(
+    String version,
+    List<CityCSV> cities) {
+
+  public static final String RESOURCE_PATH = "cities/italian-cities.bin";
+
+  private static final int MAGIC = 0x54434344;
+  private static final int FORMAT_VERSION = 1;
+
+  public static String versionOf(byte[]... csvFiles) {
+    try {
+      var messageDigest = MessageDigest.getInstance("SHA-256");
+      for (var csv : csvFiles) {
+        messageDigest.update(csv);
+      }
+      return HexFormat.of().formatHex(messageDigest.digest(), 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static boolean isBinary(byte[] content) {
+    return content.length >= Integer.BYTES && ByteBuffer.wrap(content).getInt() == MAGIC;
+  }
+
+  public static CityDataset readFrom(InputStream inputStream) throws IOException {
+    var in = new DataInputStream(new ByteArrayInputStream(inputStream.readAllBytes()));
+    if (in.readInt() != MAGIC || in.readUnsignedShort() != FORMAT_VERSION) {
+      throw new IOException("Unsupported city dataset format");
+    }
+    var version = in.readUTF();
+    var provinces = new String[in.readUnsignedShort()];
+    for (var i = 0; i < provinces.length; i++) {
+      provinces[i] = in.readUTF();
+    }
+    var count = in.readInt();
+    var cities = new ArrayList<CityCSV>(count);
+    for (var i = 0; i < count; i++) {
+      cities.add(CityCSV.builder()
+          .name(in.readUTF())
+          .province(provinces[in.readUnsignedShort()])
+          .code(readCode(in))
+          .build());
+    }
+    return new CityDataset(version, cities);
+  }
+
+  public void writeTo(OutputStream outputStream) throws IOException {
+    var provinces = new LinkedHashMap<String, Integer>();
+    for (var city : cities) {
+      provinces.putIfAbsent(city.getProvince(), provinces.size());
+    }
+    var out = new DataOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    out.writeShort(FORMAT_VERSION);
+    out.writeUTF(version);
+    out.writeShort(provinces.size());
+    for (var province : provinces.keySet()) {
+      out.writeUTF(province);
+    }
+    out.writeInt(cities.size());
+    for (var city : cities) {
+      out.writeUTF(city.getName());
+      out.writeShort(provinces.get(city.getProvince()));
+      writeCode(city.getCode(), out);
+    }
+    out.flush();
+  }
+
+  // a code is a letter followed by three digits, see CityDatasetCompiler, so it takes a byte and a short
+  private static void writeCode(String code, DataOutputStream out) throws IOException {
+    out.writeByte(code.charAt(0));
+    out.writeShort(Integer.parseInt(code, 1, 4, 10));
+  }
+
+  private static String readCode(DataInputStream in) throws IOException {
+    var letter = (char) in.readUnsignedByte();
+    var number = in.readUnsignedShort();
+    return new String(new char[]{
+        letter,
+        (char) ('0' + number / 100),
+        (char) ('0' + number / 10 % 10),
+        (char) ('0' + number % 10)});
+  }
+
+}
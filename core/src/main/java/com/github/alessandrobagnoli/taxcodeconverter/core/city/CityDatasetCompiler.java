@@ -0,0 +1,96 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build step, bound to the {@code process-classes} phase of the core module: validates the cities csv file and
+ * writes the binary {@link CityDataset} loaded at startup. The build fails listing every problem found: missing
+ * fields, malformed or duplicate codes and pairs of name and province that are the same once
+ * {@link PlaceNormalizer normalized}.
+ */
+@Log4j2
+public class CityDatasetCompiler {
+
+  private static final Pattern CODE_PATTERN = Pattern.compile("[A-Z]\\d{3}");
+
+  /**
+   * @param args - the paths of the csv files, followed by the path of the dataset to be written
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("Usage: CityDatasetCompiler <csv file>... <dataset file>");
+    }
+    var csvFiles = new byte[args.length - 1][];
+    for (var i = 0; i < csvFiles.length; i++) {
+      csvFiles[i] = Files.readAllBytes(Path.of(args[i]));
+    }
+    var dataset = compile(csvFiles);
+    var output = Path.of(args[args.length - 1]);
+    Files.createDirectories(output.getParent());
+    try (var outputStream = Files.newOutputStream(output)) {
+      dataset.writeTo(outputStream);
+    }
+    log.info("Compiled {} cities into {}, version {}", dataset.cities().size(), output, dataset.version());
+  }
+
+  /**
+   * @param csvFiles - the contents of the csv files, validated as a whole
+   */
+  public static CityDataset compile(byte[]... csvFiles) {
+    var cities = new ArrayList<CityCSV>();
+    var errors = new ArrayList<String>();
+    for (var i = 0; i < csvFiles.length; i++) {
+      var csvToBean = CityCSVLoader.csvToBeanBuilder(
+              new StringReader(new String(csvFiles[i], StandardCharsets.UTF_8)))
+          .withThrowExceptions(false)
+          .build();
+      cities.addAll(csvToBean.parse());
+      var file = i + 1;
+      csvToBean.getCapturedExceptions().forEach(e -> errors.add(String.format("csv %d, line %d: %s", file,
+          e.getLineNumber(), e.getMessage())));
+    }
+    errors.addAll(validate(cities));
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(String.format("Invalid cities csv file:%n%s", String.join("\n", errors)));
+    }
+    return new CityDataset(CityDataset.versionOf(csvFiles), cities);
+  }
+
+  public static List<String> validate(List<CityCSV> cities) {
+    var errors = new ArrayList<String>();
+    var codes = new HashMap<String, CityCSV>();
+    var places = new HashMap<List<String>, CityCSV>();
+    for (var city : cities) {
+      if (Stream.of(city.getName(), city.getProvince(), city.getCode()).anyMatch(f -> f == null || f.isBlank())) {
+        errors.add(String.format("missing field in %s", city));
+        continue;
+      }
+      if (!CODE_PATTERN.matcher(city.getCode()).matches()) {
+        errors.add(String.format("invalid code in %s", city));
+      }
+      var sameCode = codes.putIfAbsent(city.getCode(), city);
+      if (sameCode != null) {
+        errors.add(String.format("duplicate code in %s and %s", sameCode, city));
+      }
+      var samePlace = places.putIfAbsent(List.of(PlaceNormalizer.normalize(city.getName()),
+          PlaceNormalizer.normalize(city.getProvince())), city);
+      if (samePlace != null) {
+        errors.add(String.format("duplicate name and province in %s and %s", samePlace, city));
+      }
+    }
+    return errors;
+  }
+
+}
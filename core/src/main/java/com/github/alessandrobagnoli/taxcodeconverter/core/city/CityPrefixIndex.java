@@ -0,0 +1,118 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+
+/**
+ * Prefix index of the cities by {@link PlaceNormalizer normalized} name, kept as a sorted array: a search is a binary
+ * search for the first name starting with the prefix followed by a scan of the matching range. The query is folded
+ * while comparing and the responses are built once with the index, so a search allocates only the result list.
+ */
+public class CityPrefixIndex {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final String[] names;
+  private final String[] provinces;
+  private final CityResponse[] cities;
+
+  public CityPrefixIndex(Collection<CityCSV> cities) {
+    var entries = cities.stream()
+        .map(city -> new Entry(
+            PlaceNormalizer.normalize(city.getName()),
+            PlaceNormalizer.normalize(city.getProvince()),
+            CityResponse.builder()
+                .name(city.getName())
+                .province(city.getProvince())
+                .code(city.getCode())
+                .build()))
+        .sorted(Comparator.comparing(Entry::name).thenComparing(Entry::province))
+        .toList();
+    this.names = entries.stream().map(Entry::name).toArray(String[]::new);
+    this.provinces = entries.stream().map(Entry::province).toArray(String[]::new);
+    this.cities = entries.stream().map(Entry::city).toArray(CityResponse[]::new);
+  }
+
+  /**
+   * @param prefix   - the beginning of the name, folded like {@link PlaceNormalizer#normalize(CharSequence)}
+   * @param province - if not {@code null}, only the cities of this province are returned
+   * @param limit    - the maximum number of cities returned
+   * @return the matching cities sorted by normalized name, or none if the prefix is blank
+   */
+  public List<CityResponse> search(CharSequence prefix, CharSequence province, int limit) {
+    if (prefix == null || foldedLength(prefix) == 0 || limit <= 0) {
+      return List.of();
+    }
+    var results = new ArrayList<CityResponse>(Math.min(limit, INITIAL_CAPACITY));
+    for (var i = lowerBound(prefix); i < names.length && comparePrefix(names[i], prefix) == 0; i++) {
+      if (province == null || matches(provinces[i], province)) {
+        results.add(cities[i]);
+        if (results.size() == limit) {
+          break;
+        }
+      }
+    }
+    return results;
+  }
+
+  // the index of the first name that is not lower than the prefix
+  private int lowerBound(CharSequence prefix) {
+    var low = 0;
+    var high = names.length;
+    while (low < high) {
+      var mid = (low + high) >>> 1;
+      if (comparePrefix(names[mid], prefix) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  // Compares the key with the folded query, up to the length of the latter: zero means that the key starts with it.
+  private static int comparePrefix(String key, CharSequence query) {
+    var k = 0;
+    for (var i = 0; i < query.length(); i++) {
+      var c = PlaceNormalizer.fold(query.charAt(i));
+      if (c == PlaceNormalizer.DROPPED) {
+        continue;
+      }
+      if (k == key.length()) {
+        return -1;
+      }
+      var diff = key.charAt(k++) - c;
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return 0;
+  }
+
+  private static boolean matches(String key, CharSequence query) {
+    return foldedLength(query) == key.length() && comparePrefix(key, query) == 0;
+  }
+
+  private static int foldedLength(CharSequence query) {
+    var length = 0;
+    for (var i = 0; i < query.length(); i++) {
+      if (PlaceNormalizer.fold(query.charAt(i)) != PlaceNormalizer.DROPPED) {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  private record Entry(
+      String name,
+      String province,
+      CityResponse city) {
+
+  }
+
+}
@@ -0,0 +1,10 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import lombok.Builder;
+
+@Builder
+public record Place(
+    String cityName,
+    String province) {
+
+}
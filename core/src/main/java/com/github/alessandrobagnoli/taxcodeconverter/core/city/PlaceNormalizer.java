@@ -0,0 +1,64 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.text.Normalizer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Folds place names to a lookup key, so that "Agliè", "AGLIE'" and " agliè " all match the same city: letters are
+ * uppercased and stripped of their accents while apostrophes, hyphens, whitespace and any other punctuation are
+ * dropped. The folding of the Latin chars is precomputed in a table, so a name is normalized in a single pass.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PlaceNormalizer {
+
+  static final char DROPPED = 0;
+  // Latin-1 Supplement and Latin Extended-A
+  private static final char[] FOLDED = new char[0x180];
+
+  static {
+    for (var c = 0; c < FOLDED.length; c++) {
+      FOLDED[c] = foldLatin((char) c);
+    }
+  }
+
+  public static Place normalize(Place place) {
+    return Place.builder()
+        .cityName(normalize(place.cityName()))
+        .province(normalize(place.province()))
+        .build();
+  }
+
+  public static String normalize(CharSequence name) {
+    var normalized = new char[name.length()];
+    var length = 0;
+    for (var i = 0; i < name.length(); i++) {
+      var folded = fold(name.charAt(i));
+      if (folded != DROPPED) {
+        normalized[length++] = folded;
+      }
+    }
+    return new String(normalized, 0, length);
+  }
+
+  /**
+   * @return the folded char, or {@link #DROPPED} if the char is not part of the key
+   */
+  static char fold(char c) {
+    return c < FOLDED.length ? FOLDED[c] : foldOther(c);
+  }
+
+  private static char foldLatin(char c) {
+    if (!Character.isLetterOrDigit(c)) {
+      return DROPPED;
+    }
+    var base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+    return Character.toUpperCase(base);
+  }
+
+  private static char foldOther(char c) {
+    return Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : DROPPED;
+  }
+
+}
@@ -1,6 +1,7 @@
-package com.github.alessandrobagnoli.taxcodeconverter.dto;
+package com.github.alessandrobagnoli.taxcodeconverter.core.dto;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import lombok.Builder;
 
@@ -12,6 +13,8 @@ public record CalculatePersonDataResponse(
     LocalDate dateOfBirth,
     String birthPlace,
     String province,
-    String taxCode) {
+    String taxCode,
+    boolean homocode,
+    List<Integer> substitutedPositions) {
 
 }
@@ -1,4 +1,4 @@
-package com.github.alessandrobagnoli.taxcodeconverter.dto;
+package com.github.alessandrobagnoli.taxcodeconverter.core.dto;
 
 import java.time.LocalDate;
 
@@ -11,6 +11,7 @@ public record CalculateTaxCodeRequest(
     String surname,
     LocalDate dateOfBirth,
     String birthPlace,
-    String province) {
+    String province,
+    String country) {
 
 }
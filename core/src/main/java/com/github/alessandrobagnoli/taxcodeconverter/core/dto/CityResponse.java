@@ -0,0 +1,11 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CityResponse(
+    String name,
+    String province,
+    String code) {
+
+}
@@ -1,4 +1,4 @@
-package com.github.alessandrobagnoli.taxcodeconverter.dto;
+package com.github.alessandrobagnoli.taxcodeconverter.core.dto;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -0,0 +1,11 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.dto;
+
+public enum TaxCodeValidity {
+
+  VALID,
+  MISSING,
+  INVALID_LENGTH,
+  INVALID_CHARACTER,
+  INVALID_CONTROL_CHARACTER
+
+}
@@ -0,0 +1,64 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CenturyPivotTest {
+
+  @Mock
+  private Clock clock;
+
+  @InjectMocks
+  private CenturyPivot underTest;
+
+  @Test
+  void shouldComputePivotOnceWithinTheSameYear() {
+    // given
+    var now = Instant.parse("2024-05-01T10:00:00Z");
+    given(clock.millis()).willReturn(now.toEpochMilli(), Instant.parse("2024-12-31T23:59:59Z").toEpochMilli());
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var first = underTest.twoDigitYear();
+    var second = underTest.twoDigitYear();
+
+    // then
+    assertThat(first).isEqualTo(24);
+    assertThat(second).isEqualTo(24);
+    verify(clock, times(1)).instant();
+  }
+
+  @Test
+  void shouldRecomputePivotWhenYearRollsOver() {
+    // given
+    var lastYear = Instant.parse("2099-12-31T23:59:59Z");
+    var newYear = Instant.parse("2100-01-01T00:00:00Z");
+    given(clock.millis()).willReturn(lastYear.toEpochMilli(), newYear.toEpochMilli());
+    given(clock.instant()).willReturn(lastYear, newYear);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var first = underTest.twoDigitYear();
+    var second = underTest.twoDigitYear();
+
+    // then
+    assertThat(first).isEqualTo(99);
+    assertThat(second).isZero();
+    verify(clock, times(2)).instant();
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityNotPresentExceptionTest {
+
+  @Test
+  void shouldBeStacklessAndFormatItsMessage() {
+    // given
+
+    // when
+    var actual = new CityNotPresentException("The city %s and province %s do not exist", "100%", "RN");
+
+    // then
+    assertThat(actual.getStackTrace()).isEmpty();
+    assertThat(actual).hasMessage("The city 100% and province RN do not exist")
+        .hasNoCause();
+    assertThat(actual.getMessage()).isSameAs(actual.getMessage());
+  }
+
+}
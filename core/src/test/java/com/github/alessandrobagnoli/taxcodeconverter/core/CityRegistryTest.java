@@ -0,0 +1,209 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry.DatasetVersion;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityDataset;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.Place;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CityRegistryTest {
+
+  private static final CityCSV RIMINI = CityCSV.builder()
+      .name("RIMINI")
+      .province("RN")
+      .code("H294")
+      .build();
+  private static final CityCSV MONTESCUDO = CityCSV.builder()
+      .name("MONTESCUDO")
+      .province("RN")
+      .code("F641")
+      .build();
+  private static final CityCSV MONTESCUDO_MONTE_COLOMBO = CityCSV.builder()
+      .name("MONTESCUDO-MONTE COLOMBO")
+      .province("RN")
+      .code("M368")
+      .build();
+  private static final LocalDate MERGE_DATE = LocalDate.of(2016, 1, 1);
+
+  @TempDir
+  private Path directory;
+
+  private CityRegistry underTest;
+
+  @BeforeEach
+  void setUp() {
+    underTest = new CityRegistry(new CityDataset("boot", List.of(RIMINI, MONTESCUDO)));
+  }
+
+  @Test
+  void shouldResolveAgainstTheBootDatasetForAnyDate() {
+    // when
+    var byCode = underTest.findByCode(LocalDate.of(1993, 9, 19), 'H', 294);
+    var byPlace = underTest.findByPlace(LocalDate.of(2030, 1, 1), Place.builder()
+        .cityName("MONTESCUDO")
+        .province("RN")
+        .build());
+
+    // then
+    assertThat(byCode).isEqualTo(RIMINI);
+    assertThat(byPlace).isEqualTo(MONTESCUDO);
+    assertThat(underTest.findByCode(LocalDate.of(1993, 9, 19), 'M', 368)).isNull();
+    assertThat(underTest.versions()).containsExactly(DatasetVersion.builder()
+        .version("boot")
+        .validFrom(LocalDate.MIN)
+        .cities(2)
+        .build());
+  }
+
+  @Test
+  void findByPlaceShouldFallBackToTheNormalizedPlace() {
+    // when
+    var actual = underTest.findByPlace(MERGE_DATE, Place.builder()
+        .cityName(" MONTÈSCUDO' ")
+        .province("R N")
+        .build());
+
+    // then
+    assertThat(actual).isEqualTo(MONTESCUDO);
+  }
+
+  @Test
+  void findByPrefixShouldSearchTheVersionValidOnTheDate() {
+    // when
+    var actual = underTest.findByPrefix(MERGE_DATE, "monte", "rn", 10);
+
+    // then
+    assertThat(actual).containsExactly(CityResponse.builder()
+        .name("MONTESCUDO")
+        .province("RN")
+        .code("F641")
+        .build());
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldResolveAgainstTheVersionValidOnTheDate() {
+    // given
+    var csv = Files.writeString(directory.resolve("cities.csv"), """
+        NAME;PROVINCE;CODE
+        RIMINI;RN;H294
+        MONTESCUDO-MONTE COLOMBO;RN;M368
+        """, StandardCharsets.UTF_8);
+    var previousVersion = underTest.version();
+
+    // when
+    var actual = underTest.load(csv, MERGE_DATE);
+
+    // then
+    assertThat(actual.validFrom()).isEqualTo(MERGE_DATE);
+    assertThat(actual.cities()).isEqualTo(2);
+    assertThat(underTest.version()).isNotEqualTo(previousVersion);
+    assertThat(underTest.findByCode(MERGE_DATE.minusDays(1), 'F', 641)).isEqualTo(MONTESCUDO);
+    assertThat(underTest.findByCode(MERGE_DATE.minusDays(1), 'M', 368)).isNull();
+    assertThat(underTest.findByCode(MERGE_DATE, 'F', 641)).isNull();
+    assertThat(underTest.findByCode(MERGE_DATE, 'M', 368)).isEqualTo(MONTESCUDO_MONTE_COLOMBO);
+    assertThat(underTest.versions()).extracting(DatasetVersion::validFrom).containsExactly(LocalDate.MIN, MERGE_DATE);
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldReplaceTheVersionValidFromTheSameDate() {
+    // given
+    var outputStream = new ByteArrayOutputStream();
+    new CityDataset("replacement", List.of(MONTESCUDO_MONTE_COLOMBO)).writeTo(outputStream);
+    var dataset = Files.write(directory.resolve("cities.bin"), outputStream.toByteArray());
+
+    // when
+    var actual = underTest.load(dataset, LocalDate.MIN);
+
+    // then
+    assertThat(actual.version()).isEqualTo("replacement");
+    assertThat(underTest.versions()).containsExactly(actual);
+    assertThat(underTest.findByCode(LocalDate.of(1993, 9, 19), 'H', 294)).isNull();
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldRejectAnInvalidDatasetAndKeepTheCurrentOne() {
+    // given
+    var csv = Files.writeString(directory.resolve("cities.csv"), """
+        NAME;PROVINCE;CODE
+        RIMINI;RN;H294
+        RICCIONE;RN;H294
+        """, StandardCharsets.UTF_8);
+    var previousVersion = underTest.version();
+
+    // when
+    var actual = assertThrows(IllegalStateException.class, () -> underTest.load(csv, MERGE_DATE));
+
+    // then
+    assertThat(actual.getMessage()).contains("duplicate code");
+    assertThat(underTest.version()).isEqualTo(previousVersion);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(ForeignCountriesArgumentProvider.class)
+  void shouldResolveTheForeignCountriesOfTheBundledDataset(String name, char letter, int number) {
+    // given
+    var cityRegistry = new CityRegistry(new CityCSVLoader().loadDataset());
+
+    // when
+    var byCode = cityRegistry.findByCode(LocalDate.of(1993, 9, 19), letter, number);
+    var byPlace = cityRegistry.findByPlace(LocalDate.of(1993, 9, 19), Place.builder()
+        .cityName(name)
+        .province("EE")
+        .build());
+
+    // then
+    assertThat(byCode).isEqualTo(CityCSV.builder()
+        .name(name)
+        .province("EE")
+        .code(String.valueOf(letter) + number)
+        .build());
+    assertThat(byPlace).isEqualTo(byCode);
+  }
+
+  static class ForeignCountriesArgumentProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of("SERBIA", 'Z', 158),
+          Arguments.of("MACEDONIA DEL NORD", 'Z', 148),
+          Arguments.of("GHANA", 'Z', 318),
+          Arguments.of("IRAN", 'Z', 224),
+          Arguments.of("REPUBBLICA DOMINICANA", 'Z', 505),
+          Arguments.of("ERITREA", 'Z', 368),
+          Arguments.of("ETIOPIA", 'Z', 315),
+          Arguments.of("CILE", 'Z', 603),
+          Arguments.of("LIBIA", 'Z', 326),
+          Arguments.of("JUGOSLAVIA", 'Z', 118),
+          Arguments.of("UNIONE DELLE REPUBBLICHE SOCIALISTE SOVIETICHE", 'Z', 135),
+          Arguments.of("CECOSLOVACCHIA", 'Z', 105),
+          Arguments.of("REPUBBLICA DEMOCRATICA TEDESCA", 'Z', 111)
+      );
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PackedTaxCodeValidatorTest {
+
+  @ParameterizedTest
+  @ArgumentsSource(PackedTaxCodeValidatorTestsArgumentProvider.class)
+  void shouldValidate(String input, TaxCodeValidity expected) {
+    // given
+    var codes = ("AAAAAAAAAAAAAAAA" + input).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    var actual = PackedTaxCodeValidator.validate(codes);
+
+    // then
+    assertThat(actual).containsExactly(TaxCodeValidity.INVALID_CHARACTER, expected);
+  }
+
+  @Test
+  void shouldValidateAsTheScalarValidator() {
+    // given
+    var random = new Random(42);
+    var pattern = "LLLLLLNNMNNLNNNL";
+    var taxCodes = new String[10_000];
+    var codes = new byte[taxCodes.length * 16];
+    for (var i = 0; i < taxCodes.length; i++) {
+      var taxCode = new StringBuilder();
+      for (var j = 0; j < pattern.length(); j++) {
+        var chars = switch (pattern.charAt(j)) {
+          case 'L' -> "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+          case 'M' -> "ABCDEHLMPRST";
+          default -> i % 4 == 0 ? "0123456789LMNPQRSTUV" : "0123456789";
+        };
+        taxCode.append(chars.charAt(random.nextInt(chars.length())));
+      }
+      taxCodes[i] = taxCode.toString();
+      System.arraycopy(taxCodes[i].getBytes(StandardCharsets.US_ASCII), 0, codes, i * 16, 16);
+    }
+
+    // when
+    var actual = PackedTaxCodeValidator.validate(codes);
+
+    // then
+    for (var i = 0; i < taxCodes.length; i++) {
+      assertThat(actual[i]).as(taxCodes[i]).isEqualTo(TaxCodeValidator.validate(taxCodes[i]));
+    }
+    assertThat(actual).contains(TaxCodeValidity.VALID, TaxCodeValidity.INVALID_CONTROL_CHARACTER);
+  }
+
+  @Test
+  void shouldValidateFromThePositionOfTheBuffer() {
+    // given
+    var codes = ByteBuffer.wrap("skipBGNLSN93P19H294L".getBytes(StandardCharsets.US_ASCII)).position(4);
+
+    // when
+    var actual = PackedTaxCodeValidator.validate(codes);
+
+    // then
+    assertThat(actual).containsExactly(TaxCodeValidity.VALID);
+    assertThat(codes.position()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldFailWhenCodesAreNotPackedIn16Bytes() {
+    // given
+    var codes = "BGNLSN93P19H294".getBytes(StandardCharsets.US_ASCII);
+
+    // when
+    var actual = assertThrows(IllegalArgumentException.class, () -> PackedTaxCodeValidator.validate(codes));
+
+    // then
+    assertThat(actual.getMessage()).isEqualTo("The packed tax codes must be 16 bytes each, found 15 bytes");
+  }
+
+  static class PackedTaxCodeValidatorTestsArgumentProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of("BGNLSN93P19H294L", TaxCodeValidity.VALID),
+          Arguments.of("PTRRSL10R45G479I", TaxCodeValidity.VALID),
+          Arguments.of("BGNLSN93P19H29QI", TaxCodeValidity.VALID),
+          Arguments.of("BGNLSNVPPMVH2VQV", TaxCodeValidity.VALID),
+          Arguments.of("bgnlsn93p19h294l", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93F19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN9AP19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P191294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P19H2941", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLS:93P19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P19H295L", TaxCodeValidity.INVALID_CONTROL_CHARACTER),
+          Arguments.of("BGNLSN93P19H29QL", TaxCodeValidity.INVALID_CONTROL_CHARACTER)
+      );
+    }
+  }
+
+}
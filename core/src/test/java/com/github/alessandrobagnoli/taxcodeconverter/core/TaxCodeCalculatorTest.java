@@ -1,15 +1,17 @@
-package com.github.alessandrobagnoli.taxcodeconverter.service;
+package com.github.alessandrobagnoli.taxcodeconverter.core;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Map;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.stream.Stream;
 
-import com.github.alessandrobagnoli.taxcodeconverter.config.AppConfig.Place;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.Gender;
-import com.github.alessandrobagnoli.taxcodeconverter.exception.CityNotPresentException;
-import com.github.alessandrobagnoli.taxcodeconverter.utils.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.Place;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -31,22 +33,21 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 @ExtendWith(MockitoExtension.class)
 class TaxCodeCalculatorTest {
 
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+
   @Mock
-  private Map<String, CityCSV> cityCodesCache;
-  @Mock
-  private Map<Place, CityCSV> cityPlacesCache;
+  private CityRegistry cityRegistry;
 
   private TaxCodeCalculator underTest;
 
   @BeforeEach
   void setUp() {
-    // no usage of @InjectMocks here since Mockito randomly injects the wrong maps
-    this.underTest = new TaxCodeCalculator(cityCodesCache, cityPlacesCache);
+    this.underTest = new TaxCodeCalculator(cityRegistry, new CenturyPivot(CLOCK), PhaseRecorder.NONE);
   }
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(cityCodesCache, cityPlacesCache);
+    verifyNoMoreInteractions(cityRegistry);
   }
 
   @Nested
@@ -54,9 +55,9 @@ class TaxCodeCalculatorTest {
 
     @ParameterizedTest
     @ArgumentsSource(ReverseTaxCodeTestsArgumentProvider.class)
-    void shouldSucceed(String input, String cityCode, CalculatePersonDataResponse expected) {
+    void shouldSucceed(String input, char cityLetter, int cityNumber, CalculatePersonDataResponse expected) {
       // given
-      given(cityCodesCache.get(cityCode)).willReturn(CityCSV.builder()
+      given(cityRegistry.findByCode(expected.dateOfBirth(), cityLetter, cityNumber)).willReturn(CityCSV.builder()
           .name(expected.birthPlace())
           .province(expected.province())
           .build());
@@ -71,8 +72,8 @@ class TaxCodeCalculatorTest {
     @Test
     void shouldThrowExceptionWhenNoCityFound() {
       // given
-      var input = "BGNLSN93P19H295L";
-      given(cityCodesCache.get("H295")).willReturn(null);
+      var input = "BGNLSN93P19H295P";
+      given(cityRegistry.findByCode(LocalDate.of(1993, 9, 19), 'H', 295)).willReturn(null);
 
       // when
       var actual = assertThrows(CityNotPresentException.class, () -> underTest.reverseTaxCode(input));
@@ -83,6 +84,18 @@ class TaxCodeCalculatorTest {
 
   }
 
+  @Test
+  void reverseTaxCodeVersionShouldDependOnCenturyPivotAndCityDatasets() {
+    // given
+    given(cityRegistry.version()).willReturn("0123456789abcdef@-999999999-01-01");
+
+    // when
+    var actual = underTest.reverseTaxCodeVersion();
+
+    // then
+    assertThat(actual).isEqualTo("24+0123456789abcdef@-999999999-01-01");
+  }
+
   @Nested
   class CalculateTaxCodeTests {
 
@@ -92,7 +105,7 @@ class TaxCodeCalculatorTest {
       // given
       var birthPlace = input.birthPlace().toUpperCase();
       var province = input.province().toUpperCase();
-      given(cityPlacesCache.get(Place.builder()
+      given(cityRegistry.findByPlace(input.dateOfBirth(), Place.builder()
           .cityName(birthPlace)
           .province(province)
           .build()))
@@ -109,6 +122,56 @@ class TaxCodeCalculatorTest {
       assertThat(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(CalculateTaxCodeTestsArgumentProvider.class)
+    void shouldReturnThePackedCode(CalculateTaxCodeRequest input, String cityCode, String expected) {
+      // given
+      var birthPlace = input.birthPlace().toUpperCase();
+      var province = input.province().toUpperCase();
+      given(cityRegistry.findByPlace(input.dateOfBirth(), Place.builder()
+          .cityName(birthPlace)
+          .province(province)
+          .build()))
+          .willReturn(CityCSV.builder()
+              .name(birthPlace)
+              .province(province)
+              .code(cityCode)
+              .build());
+
+      // when
+      var actual = underTest.calculatePackedTaxCode(input);
+
+      // then
+      assertThat(actual).isEqualTo(TaxCode.pack(expected));
+      assertThat(TaxCode.unpack(actual)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldSucceedWhenBornAbroad() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .country("Francia")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      given(cityRegistry.findByPlace(input.dateOfBirth(), Place.builder()
+          .cityName("FRANCIA")
+          .province("EE")
+          .build())).willReturn(CityCSV.builder()
+          .name("FRANCIA")
+          .province("EE")
+          .code("Z110")
+          .build());
+
+      // when
+      var actual = underTest.calculateTaxCode(input);
+
+      // then
+      assertThat(actual).isEqualTo("BGNLSN93P19Z110I");
+    }
+
     @Test
     void shouldThrowExceptionWhenNoCityFound() {
       // given
@@ -120,7 +183,7 @@ class TaxCodeCalculatorTest {
           .name("Alessandro")
           .surname("Bagnoli")
           .build();
-      given(cityPlacesCache.get(Place.builder()
+      given(cityRegistry.findByPlace(input.dateOfBirth(), Place.builder()
           .cityName("FAKECITY")
           .province("FAKEPROVINCE")
           .build())).willReturn(null);
@@ -132,6 +195,66 @@ class TaxCodeCalculatorTest {
       assertThat(actual).hasMessage("The city fakeCity and province fakeProvince do not exist");
     }
 
+    @Test
+    void shouldThrowExceptionWhenNoCountryFound() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .country("fakeCountry")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      given(cityRegistry.findByPlace(input.dateOfBirth(), Place.builder()
+          .cityName("FAKECOUNTRY")
+          .province("EE")
+          .build())).willReturn(null);
+
+      // when
+      var actual = assertThrows(CityNotPresentException.class, () -> underTest.calculateTaxCode(input));
+
+      // then
+      assertThat(actual).hasMessage("The country fakeCountry does not exist");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenGenderUnspecified() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.UNSPECIFIED)
+          .birthPlace("Rimini")
+          .province("RN")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+
+      // when
+      var actual = assertThrows(IllegalArgumentException.class, () -> underTest.calculateTaxCode(input));
+
+      // then
+      assertThat(actual).hasMessage("invalid gender UNSPECIFIED");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBornToday() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .birthPlace("Rimini")
+          .province("RN")
+          .dateOfBirth(LocalDate.of(2024, 5, 1))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+
+      // when
+      var actual = assertThrows(IllegalArgumentException.class, () -> underTest.calculatePackedTaxCode(input));
+
+      // then
+      assertThat(actual).hasMessage("invalid dateOfBirth 2024-05-01");
+    }
+
   }
 
   static class ReverseTaxCodeTestsArgumentProvider implements ArgumentsProvider {
@@ -141,7 +264,7 @@ class TaxCodeCalculatorTest {
       return Stream.of(
           Arguments.of(
               "BGNLSN93P19H294L",
-              "H294",
+              'H', 294,
               CalculatePersonDataResponse.builder()
                   .taxCode("BGNLSN93P19H294L")
                   .gender(Gender.MALE)
@@ -150,11 +273,12 @@ class TaxCodeCalculatorTest {
                   .dateOfBirth(LocalDate.of(1993, 9, 19))
                   .name("LSN")
                   .surname("BGN")
+                  .substitutedPositions(List.of())
                   .build()
           ),
           Arguments.of(
               "PTRRSL10R45G479I",
-              "G479",
+              'G', 479,
               CalculatePersonDataResponse.builder()
                   .taxCode("PTRRSL10R45G479I")
                   .gender(Gender.FEMALE)
@@ -163,6 +287,51 @@ class TaxCodeCalculatorTest {
                   .dateOfBirth(LocalDate.of(2010, 10, 5))
                   .name("RSL")
                   .surname("PTR")
+                  .substitutedPositions(List.of())
+                  .build()
+          ),
+          Arguments.of(
+              "RSSMRA24A01H501K",
+              'H', 501,
+              CalculatePersonDataResponse.builder()
+                  .taxCode("RSSMRA24A01H501K")
+                  .gender(Gender.MALE)
+                  .birthPlace("ROMA")
+                  .province("RM")
+                  .dateOfBirth(LocalDate.of(1924, 1, 1))
+                  .name("MRA")
+                  .surname("RSS")
+                  .substitutedPositions(List.of())
+                  .build()
+          ),
+          Arguments.of(
+              "BGNLSN93P19H29QI",
+              'H', 294,
+              CalculatePersonDataResponse.builder()
+                  .taxCode("BGNLSN93P19H29QI")
+                  .gender(Gender.MALE)
+                  .birthPlace("RIMINI")
+                  .province("RN")
+                  .dateOfBirth(LocalDate.of(1993, 9, 19))
+                  .name("LSN")
+                  .surname("BGN")
+                  .homocode(true)
+                  .substitutedPositions(List.of(15))
+                  .build()
+          ),
+          Arguments.of(
+              "BGNLSNVPPMVH2VQV",
+              'H', 294,
+              CalculatePersonDataResponse.builder()
+                  .taxCode("BGNLSNVPPMVH2VQV")
+                  .gender(Gender.MALE)
+                  .birthPlace("RIMINI")
+                  .province("RN")
+                  .dateOfBirth(LocalDate.of(1993, 9, 19))
+                  .name("LSN")
+                  .surname("BGN")
+                  .homocode(true)
+                  .substitutedPositions(List.of(7, 8, 10, 11, 14, 15))
                   .build()
           )
       );
@@ -263,7 +432,27 @@ class TaxCodeCalculatorTest {
                   .surname("5555")
                   .build(),
               "F189",
-              "XXXHFG93P19F189A")
+              "XXXHFG93P19F189A"),
+          Arguments.of(CalculateTaxCodeRequest.builder()
+                  .gender(Gender.MALE)
+                  .birthPlace("agliè")
+                  .province("to")
+                  .dateOfBirth(LocalDate.of(1987, 1, 3))
+                  .name("Niccolò")
+                  .surname("D'Angelo")
+                  .build(),
+              "A074",
+              "DNGNCL87A03A074L"),
+          Arguments.of(CalculateTaxCodeRequest.builder()
+                  .gender(Gender.FEMALE)
+                  .birthPlace("roma")
+                  .province("rm")
+                  .dateOfBirth(LocalDate.of(2001, 12, 31))
+                  .name("Maria Antonietta")
+                  .surname("De La Croix")
+                  .build(),
+              "H501",
+              "DLCMNT01T71H501N")
       );
     }
   }
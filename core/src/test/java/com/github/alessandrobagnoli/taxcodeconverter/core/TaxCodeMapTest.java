@@ -0,0 +1,64 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxCodeMapTest {
+
+  private final TaxCodeMap<String> underTest = new TaxCodeMap<>(1);
+
+  @Test
+  void putShouldReplaceThePreviousValue() {
+    // given
+    var taxCode = TaxCode.pack("BGNLSN93P19H294L");
+
+    // when
+    var first = underTest.put(taxCode, "first");
+    var second = underTest.put(taxCode, "second");
+
+    // then
+    assertThat(first).isNull();
+    assertThat(second).isEqualTo("first");
+    assertThat(underTest.get(taxCode)).isEqualTo("second");
+    assertThat(underTest.containsKey(taxCode)).isTrue();
+    assertThat(underTest.get(TaxCode.pack("PTRRSL10R45G479I"))).isNull();
+    assertThat(underTest.size()).isEqualTo(1);
+  }
+
+  @Test
+  void computeIfAbsentShouldComputeOnlyMissingValues() {
+    // given
+    var taxCode = TaxCode.pack("BGNLSN93P19H294L");
+    underTest.put(taxCode, "present");
+
+    // when
+    var present = underTest.computeIfAbsent(taxCode, TaxCode::unpack);
+    var computed = underTest.computeIfAbsent(TaxCode.pack("12345678901"), TaxCode::unpack);
+
+    // then
+    assertThat(present).isEqualTo("present");
+    assertThat(computed).isEqualTo("12345678901");
+    assertThat(underTest.size()).isEqualTo(2);
+  }
+
+  @Test
+  void putShouldGrowTheMap() {
+    // given
+    var step = TaxCode.pack("AAAAAA00A01A000H");
+
+    // when
+    for (var i = 0L; i < 10_000; i++) {
+      underTest.put(i * step, Long.toString(i));
+    }
+
+    // then
+    var visited = new HashMap<Long, String>();
+    underTest.forEach(visited::put);
+    assertThat(visited).hasSize(10_000);
+    assertThat(visited).allSatisfy((key, value) -> assertThat(key / step).hasToString(value));
+  }
+
+}
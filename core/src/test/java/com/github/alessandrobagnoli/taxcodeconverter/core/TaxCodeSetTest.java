@@ -0,0 +1,61 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.ArrayList;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaxCodeSetTest {
+
+  private final TaxCodeSet underTest = new TaxCodeSet(1);
+
+  @Test
+  void addShouldDeduplicateTheCodes() {
+    // given
+    var taxCode = TaxCode.pack("BGNLSN93P19H294L");
+    var homocode = TaxCode.pack("BGNLSN93P19H29QI");
+
+    // when
+    var actual = new boolean[]{underTest.add(taxCode), underTest.add(homocode), underTest.add(taxCode)};
+
+    // then
+    assertThat(actual).containsExactly(true, true, false);
+    assertThat(underTest.size()).isEqualTo(2);
+    assertThat(underTest.contains(taxCode)).isTrue();
+    assertThat(underTest.contains(homocode)).isTrue();
+    assertThat(underTest.contains(TaxCode.pack("PTRRSL10R45G479I"))).isFalse();
+    assertThat(underTest.toArray()).containsExactlyInAnyOrder(taxCode, homocode);
+  }
+
+  @Test
+  void addShouldGrowTheSet() {
+    // given
+    var codes = LongStream.range(0, 10_000).map(i -> i * TaxCode.pack("AAAAAA00A01A000H")).toArray();
+
+    // when
+    for (var code : codes) {
+      underTest.add(code);
+    }
+
+    // then
+    assertThat(underTest.size()).isEqualTo(codes.length);
+    assertThat(LongStream.of(codes).allMatch(underTest::contains)).isTrue();
+    var visited = new ArrayList<Long>();
+    underTest.forEach(visited::add);
+    assertThat(visited).hasSize(codes.length).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void addShouldRejectTheFreeSlotMarker() {
+    // when
+    // then
+    assertThatThrownBy(() -> underTest.add(-1L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The value -1 is not a packed tax code");
+    assertThat(underTest.isEmpty()).isTrue();
+  }
+
+}
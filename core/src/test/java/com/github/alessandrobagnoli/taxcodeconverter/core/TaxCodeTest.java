@@ -0,0 +1,89 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaxCodeTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"BGNLSN93P19H294L", "PTRRSL10R45G479I", "BGNLSN93P19H29QI", "BGNLSN93P19HNVQJ",
+      "BGNLSNVPPMVHNVQK", "ZZZZZZ99T71Z999L", "AAAAAA00A00A000I", "12345678901", "00000000000"})
+  void packShouldBeLossless(String taxCode) {
+    // when
+    var actual = TaxCode.pack(taxCode);
+
+    // then
+    assertThat(TaxCode.isPacked(actual)).isTrue();
+    assertThat(TaxCode.unpack(actual)).isEqualTo(taxCode);
+    assertThat(TaxCode.of(taxCode)).hasToString(taxCode);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TaxCodeTestInvalidArgumentsProvider.class)
+  void packShouldRejectInvalidCodes(String taxCode, String expectedMessage) {
+    // when
+    // then
+    assertThatThrownBy(() -> TaxCode.pack(taxCode))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(expectedMessage);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {-1L, Long.MAX_VALUE, Long.MIN_VALUE + 100_000_000_000L})
+  void unpackShouldRejectValuesNotPacked(long packed) {
+    // when
+    // then
+    assertThatThrownBy(() -> TaxCode.unpack(packed))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The value " + packed + " is not a packed tax code");
+    assertThatThrownBy(() -> new TaxCode(packed))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldBeOrderedAsTheCodesWithTheirHomocodesAfterThem() {
+    // given
+    var expected = List.of("00000000000", "12345678901", "BGNLSN93P19H294L", "BGNLSN93P19H29QI", "BGNLSN93P19HNVQJ",
+        "BGNLSN93P19H295P", "BGNLSN93P20H294S", "PTRRSL10R45G479I");
+
+    // when
+    var actual = expected.stream()
+        .sorted(Comparator.reverseOrder())
+        .map(TaxCode::of)
+        .sorted()
+        .map(TaxCode::toString)
+        .toList();
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  static class TaxCodeTestInvalidArgumentsProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of(null, "invalid taxCode: MISSING"),
+          Arguments.of("BGNLSN93P19H294", "invalid taxCode: INVALID_LENGTH"),
+          Arguments.of("bgnlsn93p19h294l", "invalid taxCode: INVALID_CHARACTER"),
+          Arguments.of("BGNLSN93P19H295L", "invalid taxCode: INVALID_CONTROL_CHARACTER"),
+          Arguments.of("BGNLSNVPPMVH2VQV",
+              "The homocode letters of BGNLSNVPPMVH2VQV are not substituted from right to left")
+      );
+    }
+
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core;
+
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxCodeValidatorTest {
+
+  @ParameterizedTest
+  @ArgumentsSource(TaxCodeValidatorTestsArgumentProvider.class)
+  void shouldValidate(String input, TaxCodeValidity expected) {
+    // when
+    var actual = TaxCodeValidator.validate(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+    assertThat(TaxCodeValidator.isValid(input)).isEqualTo(expected == TaxCodeValidity.VALID);
+  }
+
+  static class TaxCodeValidatorTestsArgumentProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of("BGNLSN93P19H294L", TaxCodeValidity.VALID),
+          Arguments.of("PTRRSL10R45G479I", TaxCodeValidity.VALID),
+          Arguments.of("BGNLSN93P19H29QI", TaxCodeValidity.VALID),
+          Arguments.of("BGNLSNVPPMVH2VQV", TaxCodeValidity.VALID),
+          Arguments.of("12345678901", TaxCodeValidity.VALID),
+          Arguments.of(null, TaxCodeValidity.MISSING),
+          Arguments.of("", TaxCodeValidity.MISSING),
+          Arguments.of("BGNLSN93P19H294", TaxCodeValidity.INVALID_LENGTH),
+          Arguments.of("BGNLSN93P19H294LL", TaxCodeValidity.INVALID_LENGTH),
+          Arguments.of("bgnlsn93p19h294l", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93F19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN9AP19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P191294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P19H2941", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSÈ93P19H294L", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("1234567890A", TaxCodeValidity.INVALID_CHARACTER),
+          Arguments.of("BGNLSN93P19H295L", TaxCodeValidity.INVALID_CONTROL_CHARACTER),
+          Arguments.of("BGNLSN93P19H29QL", TaxCodeValidity.INVALID_CONTROL_CHARACTER)
+      );
+    }
+  }
+
+}
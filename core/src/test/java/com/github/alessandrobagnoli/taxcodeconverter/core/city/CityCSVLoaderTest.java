@@ -1,6 +1,6 @@
-package com.github.alessandrobagnoli.taxcodeconverter.utils;
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
 
-import com.github.alessandrobagnoli.taxcodeconverter.utils.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,11 +22,27 @@ class CityCSVLoaderTest {
     var actual = underTest.parseCities();
 
     // then
-    assertThat(actual).hasSize(7904)
+    assertThat(actual).hasSize(8103)
         .contains(CityCSV.builder()
             .code("H294")
             .name("RIMINI")
             .province("RN")
+            .build())
+        .contains(CityCSV.builder()
+            .code("Z110")
+            .name("FRANCIA")
+            .province("EE")
             .build());
   }
-}
\ No newline at end of file
+
+  @Test
+  void parseCsvShouldMatchPrecompiledDataset() {
+    // given
+
+    // when
+    var actual = underTest.parseCsv();
+
+    // then
+    assertThat(actual).isEqualTo(underTest.loadDataset());
+  }
+}
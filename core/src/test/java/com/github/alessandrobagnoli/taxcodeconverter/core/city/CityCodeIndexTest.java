@@ -0,0 +1,105 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CityCodeIndexTest {
+
+  private static final CityCSV RIMINI = CityCSV.builder()
+      .code("H294")
+      .name("RIMINI")
+      .province("RN")
+      .build();
+  private static final CityCSV ABANO_TERME = CityCSV.builder()
+      .code("A001")
+      .name("ABANO TERME")
+      .province("PD")
+      .build();
+  private static final CityCSV LAST_SLOT = CityCSV.builder()
+      .code("Z999")
+      .name("FAKE")
+      .province("EE")
+      .build();
+
+  private final CityCodeIndex underTest = new CityCodeIndex(List.of(RIMINI, ABANO_TERME, LAST_SLOT));
+
+  @Test
+  void getShouldFindEveryCity() {
+    // when
+    var byCode = List.of(underTest.get("H294"), underTest.get("A001"), underTest.get("Z999"));
+    var byLetterAndNumber = List.of(underTest.get('H', 294), underTest.get('A', 1), underTest.get('Z', 999));
+
+    // then
+    assertThat(byCode).containsExactly(RIMINI, ABANO_TERME, LAST_SLOT);
+    assertThat(byLetterAndNumber).containsExactly(RIMINI, ABANO_TERME, LAST_SLOT);
+    assertThat(underTest.size()).isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = {"H295", "", "H29", "H2944", "h294", "H2A4", "1294", "ÀH29"})
+  void getShouldReturnNullWhenNotPresentOrMalformed(String code) {
+    // when
+    var actual = underTest.get(code);
+
+    // then
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void getShouldReturnNullWhenNumberOutOfRange() {
+    // when
+    var actual = underTest.get('H', 1294);
+
+    // then
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void shouldFailWhenDuplicateCode() {
+    // given
+    var cities = List.of(RIMINI, RIMINI);
+
+    // when
+    var actual = assertThrows(IllegalStateException.class, () -> new CityCodeIndex(cities));
+
+    // then
+    assertThat(actual).hasMessage("Duplicate city code H294");
+  }
+
+  @Test
+  void shouldFailWhenInvalidCode() {
+    // given
+    var cities = List.of(CityCSV.builder()
+        .code("H29")
+        .build());
+
+    // when
+    var actual = assertThrows(IllegalArgumentException.class, () -> new CityCodeIndex(cities));
+
+    // then
+    assertThat(actual).hasMessage("Invalid city code H29");
+  }
+
+  @Test
+  void shouldIndexAllCitiesOfTheCsv() {
+    // given
+    var cities = new CityCSVLoader().parseCities();
+
+    // when
+    var actual = new CityCodeIndex(cities);
+
+    // then
+    assertThat(actual.size()).isEqualTo(cities.size());
+    assertThat(cities).allMatch(city -> actual.get(city.getCode()) == city);
+  }
+
+}
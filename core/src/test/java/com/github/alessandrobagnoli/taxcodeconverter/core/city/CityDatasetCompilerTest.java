@@ -0,0 +1,132 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CityDatasetCompilerTest {
+
+  @SneakyThrows
+  @Test
+  void compileShouldSucceedAndRoundTrip() {
+    // given
+    var csv = """
+        NAME;PROVINCE;CODE
+        AGLIÈ;TO;A074
+        RIMINI;RN;H294
+        ROMA;RM;H501
+        """.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    var actual = CityDatasetCompiler.compile(csv);
+
+    // then
+    assertThat(actual.version()).isEqualTo(CityDataset.versionOf(csv)).hasSize(16);
+    assertThat(actual.cities()).containsExactly(
+        CityCSV.builder().name("AGLIÈ").province("TO").code("A074").build(),
+        CityCSV.builder().name("RIMINI").province("RN").code("H294").build(),
+        CityCSV.builder().name("ROMA").province("RM").code("H501").build());
+    var outputStream = new ByteArrayOutputStream();
+    actual.writeTo(outputStream);
+    assertThat(CityDataset.readFrom(new ByteArrayInputStream(outputStream.toByteArray()))).isEqualTo(actual);
+  }
+
+  @Test
+  void compileShouldMergeSeveralCsvFiles() {
+    // given
+    var cities = """
+        NAME;PROVINCE;CODE
+        RIMINI;RN;H294
+        """.getBytes(StandardCharsets.UTF_8);
+    var countries = """
+        NAME;PROVINCE;CODE
+        FRANCIA;EE;Z110
+        """.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    var actual = CityDatasetCompiler.compile(cities, countries);
+
+    // then
+    assertThat(actual.version()).isEqualTo(CityDataset.versionOf(cities, countries));
+    assertThat(actual.cities()).containsExactly(
+        CityCSV.builder().name("RIMINI").province("RN").code("H294").build(),
+        CityCSV.builder().name("FRANCIA").province("EE").code("Z110").build());
+  }
+
+  @Test
+  void compileShouldFailWhenCodeIsDuplicatedAcrossCsvFiles() {
+    // given
+    var cities = """
+        NAME;PROVINCE;CODE
+        RIMINI;RN;H294
+        """.getBytes(StandardCharsets.UTF_8);
+    var countries = """
+        NAME;PROVINCE;CODE
+        FRANCIA;EE;H294
+        """.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    var actual = assertThrows(IllegalStateException.class, () -> CityDatasetCompiler.compile(cities, countries));
+
+    // then
+    assertThat(actual.getMessage()).startsWith("Invalid cities csv file:").contains("duplicate code");
+  }
+
+  @Test
+  void compileShouldFailWhenRequiredFieldIsMissing() {
+    // given
+    var csv = """
+        NAME;PROVINCE;CODE
+        RIMINI;;H294
+        """.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    var actual = assertThrows(IllegalStateException.class, () -> CityDatasetCompiler.compile(csv));
+
+    // then
+    assertThat(actual.getMessage()).startsWith("Invalid cities csv file:").contains("line ");
+  }
+
+  @Test
+  void validateShouldReportEveryProblem() {
+    // given
+    var cities = List.of(
+        CityCSV.builder().name("RIMINI").province("RN").code("H294").build(),
+        CityCSV.builder().name("RICCIONE").province("RN").code("H294").build(),
+        CityCSV.builder().name("RIMINI").province("RN").code("H295").build(),
+        CityCSV.builder().name("ROMA").province("RM").code("H50").build(),
+        CityCSV.builder().name(" ").province("RM").code("H501").build(),
+        CityCSV.builder().name("RIMINI'").province("RN").code("H296").build());
+
+    // when
+    var actual = CityDatasetCompiler.validate(cities);
+
+    // then
+    assertThat(actual).hasSize(5)
+        .anyMatch(error -> error.startsWith("duplicate code"))
+        .anyMatch(error -> error.startsWith("duplicate name and province"))
+        .anyMatch(error -> error.startsWith("invalid code"))
+        .anyMatch(error -> error.startsWith("missing field"));
+  }
+
+  @Test
+  void validateShouldAcceptTheShippedCsv() {
+    // given
+    var cities = new CityCSVLoader().parseCsv().cities();
+
+    // when
+    var actual = CityDatasetCompiler.validate(cities);
+
+    // then
+    assertThat(actual).isEmpty();
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader.CityCSV;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityPrefixIndexTest {
+
+  private final CityPrefixIndex underTest = new CityPrefixIndex(List.of(
+      city("RIMINI", "RN", "H294"),
+      city("RIMELLA", "VC", "H293"),
+      city("RICCIONE", "RN", "H274"),
+      city("AGLIÈ", "TO", "A074"),
+      city("ALBIANO D'IVREA", "TO", "A157"),
+      city("ROMA", "RM", "H501")));
+
+  @Test
+  void searchShouldReturnTheMatchingCitiesSortedByName() {
+    // when
+    var actual = underTest.search("ri", null, 10);
+
+    // then
+    assertThat(actual).containsExactly(
+        response("RICCIONE", "RN", "H274"),
+        response("RIMELLA", "VC", "H293"),
+        response("RIMINI", "RN", "H294"));
+  }
+
+  @Test
+  void searchShouldFoldThePrefix() {
+    // when
+    var accented = underTest.search("Agliè", null, 10);
+    var apostrophe = underTest.search("albiano d'i", null, 10);
+    var spaced = underTest.search(" Albiano D Ivr", null, 10);
+
+    // then
+    assertThat(accented).containsExactly(response("AGLIÈ", "TO", "A074"));
+    assertThat(apostrophe).containsExactly(response("ALBIANO D'IVREA", "TO", "A157"));
+    assertThat(spaced).isEqualTo(apostrophe);
+  }
+
+  @Test
+  void searchShouldFilterByProvince() {
+    // when
+    var actual = underTest.search("RI", "rn", 10);
+
+    // then
+    assertThat(actual).containsExactly(
+        response("RICCIONE", "RN", "H274"),
+        response("RIMINI", "RN", "H294"));
+    assertThat(underTest.search("RI", "R", 10)).isEmpty();
+  }
+
+  @Test
+  void searchShouldStopAtTheLimit() {
+    // when
+    var actual = underTest.search("R", null, 2);
+
+    // then
+    assertThat(actual).containsExactly(
+        response("RICCIONE", "RN", "H274"),
+        response("RIMELLA", "VC", "H293"));
+  }
+
+  @Test
+  void searchShouldReturnNothingWhenNoMatchOrBlankPrefix() {
+    // then
+    assertThat(underTest.search("RIMINIS", null, 10)).isEmpty();
+    assertThat(underTest.search("Z", null, 10)).isEmpty();
+    assertThat(underTest.search(" '-", null, 10)).isEmpty();
+    assertThat(underTest.search(null, null, 10)).isEmpty();
+    assertThat(underTest.search("RI", null, 0)).isEmpty();
+  }
+
+  private static CityCSV city(String name, String province, String code) {
+    return CityCSV.builder()
+        .name(name)
+        .province(province)
+        .code(code)
+        .build();
+  }
+
+  private static CityResponse response(String name, String province, String code) {
+    return CityResponse.builder()
+        .name(name)
+        .province(province)
+        .code(code)
+        .build();
+  }
+
+}
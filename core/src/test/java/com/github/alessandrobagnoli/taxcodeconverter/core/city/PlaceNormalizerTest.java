@@ -0,0 +1,53 @@
+package com.github.alessandrobagnoli.taxcodeconverter.core.city;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceNormalizerTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "AGLIÈ|AGLIE",
+      "Agliè|AGLIE",
+      "AGLIE'|AGLIE",
+      "' agliè  '|AGLIE",
+      "ALBIANO D'IVREA|ALBIANODIVREA",
+      "Albiano d Ivrea|ALBIANODIVREA",
+      "MONTESCUDO-MONTE COLOMBO|MONTESCUDOMONTECOLOMBO",
+      "Montescudo - Monte  Colombo|MONTESCUDOMONTECOLOMBO",
+      "Rorà|RORA",
+      "SAINT-RHÉMY-EN-BOSSES|SAINTRHEMYENBOSSES",
+      "Ça|CA",
+      "Łódź|ŁODZ",
+      "''|''"
+  })
+  void normalizeShouldFold(String input, String expected) {
+    // when
+    var actual = PlaceNormalizer.normalize(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void normalizePlaceShouldFoldBothFields() {
+    // given
+    var input = Place.builder()
+        .cityName("Viù")
+        .province(" to ")
+        .build();
+
+    // when
+    var actual = PlaceNormalizer.normalize(input);
+
+    // then
+    assertThat(actual).isEqualTo(Place.builder()
+        .cityName("VIU")
+        .province("TO")
+        .build());
+  }
+
+}
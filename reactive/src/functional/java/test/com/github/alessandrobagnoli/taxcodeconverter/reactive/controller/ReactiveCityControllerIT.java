@@ -0,0 +1,66 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveCityControllerIT {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockBean
+  private Clock clock;
+
+  @Test
+  void autocompleteShouldSucceedAndReturnAsExpected() {
+    // given
+    given(clock.instant()).willReturn(Instant.now());
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path("/api/v1/cities:autocomplete")
+            .queryParam("prefix", "Agli")
+            .queryParam("province", "to")
+            .queryParam("limit", "2")
+            .build())
+        .exchange();
+
+    // then
+    var expected = CityResponse.builder()
+        .name("AGLIÈ")
+        .province("TO")
+        .code("A074")
+        .build();
+    actual.expectStatus().isOk()
+        .expectBodyList(CityResponse.class)
+        .value(cities -> assertThat(cities).usingRecursiveFieldByFieldElementComparator().containsExactly(expected));
+  }
+
+  @Test
+  void autocompleteShouldFailWhenPrefixIsMissing() {
+    // when
+    var actual = webTestClient.get()
+        .uri("/api/v1/cities:autocomplete")
+        .exchange();
+
+    // then
+    actual.expectStatus().isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+}
@@ -0,0 +1,192 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveTaxCodeConverterControllerIT {
+
+  private static final String TIMESTAMP_PROPERTY = "timestamp";
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockBean
+  private Clock clock;
+
+  @Test
+  void calculatePersonDataShouldSucceedAndReturnAsExpected() {
+    // given
+    var taxCode = "BGNLSN93P19H294L";
+    var now = Instant.now();
+    given(clock.millis()).willReturn(now.toEpochMilli());
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = webTestClient.post()
+        .uri("/api/v1/taxcode:calculate-person-data")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(CalculatePersonDataRequest.builder()
+            .taxCode(taxCode)
+            .build())
+        .exchange();
+
+    // then
+    var expected = CalculatePersonDataResponse.builder()
+        .taxCode(taxCode)
+        .gender(Gender.MALE)
+        .birthPlace("RIMINI")
+        .province("RN")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .name("LSN")
+        .surname("BGN")
+        .substitutedPositions(List.of())
+        .build();
+    actual.expectStatus().isOk()
+        .expectBody(CalculatePersonDataResponse.class).isEqualTo(expected);
+  }
+
+  @Test
+  void getPersonDataShouldAnswerNotModifiedWhenETagMatches() {
+    // given
+    var taxCode = "BGNLSN93P19H294L";
+    var now = Instant.now();
+    given(clock.millis()).willReturn(now.toEpochMilli());
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+    var eTag = webTestClient.get()
+        .uri("/api/v1/taxcode/{taxCode}/person-data", taxCode)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=3600, public")
+        .returnResult(CalculatePersonDataResponse.class)
+        .getResponseHeaders()
+        .getETag();
+
+    // when
+    var actual = webTestClient.get()
+        .uri("/api/v1/taxcode/{taxCode}/person-data", taxCode)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        .exchange();
+
+    // then
+    assertThat(eTag).startsWith("\"" + taxCode + "-");
+    actual.expectStatus().isNotModified()
+        .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+        .expectBody().isEmpty();
+  }
+
+  @Test
+  void calculateTaxCodeShouldFailWhenNoCityFound() {
+    // given
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = webTestClient.post()
+        .uri("/api/v1/taxcode:calculate-tax-code")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(CalculateTaxCodeRequest.builder()
+            .gender(Gender.MALE)
+            .birthPlace("fakeCity")
+            .province("fakeProvince")
+            .dateOfBirth(LocalDate.of(1993, 9, 19))
+            .name("Alessandro")
+            .surname("Bagnoli")
+            .build())
+        .exchange();
+
+    // then
+    var expected = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+    expected.setProperty(TIMESTAMP_PROPERTY, now.toString());
+    expected.setDetail("The city fakeCity and province fakeProvince do not exist");
+    expected.setInstance(URI.create("/api/v1/taxcode:calculate-tax-code"));
+    actual.expectStatus().isNotFound()
+        .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody(ProblemDetail.class).isEqualTo(expected);
+  }
+
+  @Test
+  void calculateTaxCodeShouldFailWhenInvalidRequest() {
+    // given
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = webTestClient.post()
+        .uri("/api/v1/taxcode:calculate-tax-code")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(CalculateTaxCodeRequest.builder()
+            .gender(Gender.MALE)
+            .birthPlace("Rimini")
+            .province("RN")
+            .dateOfBirth(LocalDate.of(1993, 9, 19))
+            .surname("Bagnoli")
+            .build())
+        .exchange();
+
+    // then
+    var expected = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    expected.setProperty(TIMESTAMP_PROPERTY, now.toString());
+    expected.setDetail("Invalid CalculateTaxCodeRequest: missing required property name");
+    expected.setInstance(URI.create("/api/v1/taxcode:calculate-tax-code"));
+    actual.expectStatus().isBadRequest()
+        .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody(ProblemDetail.class).isEqualTo(expected);
+  }
+
+  @Test
+  void streamCalculateTaxCodeShouldWriteOneLinePerRecord() {
+    // given
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = webTestClient.post()
+        .uri("/api/v1/taxcode:stream-calculate-tax-code")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue("""
+            {"gender":"MALE","name":"Alessandro","surname":"Bagnoli","dateOfBirth":"1993-09-19",\
+            "birthPlace":"Rimini","province":"RN"}
+            {"gender":"MALE","name":"Alessandro","surname":"Bagnoli","dateOfBirth":"1993-09-19",\
+            "birthPlace":"Rimini","province":"RN"}
+            """)
+        .exchange();
+
+    // then
+    actual.expectStatus().isOk()
+        .expectBody(String.class).isEqualTo("""
+            {"index":0,"result":{"taxCode":"BGNLSN93P19H294L"}}
+            {"index":1,"result":{"taxCode":"BGNLSN93P19H294L"}}
+            """);
+  }
+
+}
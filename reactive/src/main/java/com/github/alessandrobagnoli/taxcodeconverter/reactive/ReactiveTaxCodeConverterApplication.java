@@ -0,0 +1,35 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive;
+
+import com.github.alessandrobagnoli.taxcodeconverter.config.AppConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.config.ValidationConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.FailureLogger;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.service.CitySearchService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Serves the API of the service module on WebFlux and Netty. Only the beans below are taken from the service module,
+ * its servlet controllers are left out.
+ */
+@SpringBootApplication
+@Import({
+    AppConfig.class,
+    ValidationConfig.class,
+    TaxCodeMetrics.class,
+    TaxCodeConverterService.class,
+    TaxCodeValidationService.class,
+    CitySearchService.class,
+    ProblemDetailFactory.class,
+    FailureLogger.class})
+public class ReactiveTaxCodeConverterApplication {
+
+  public static void main(String... args) {
+    SpringApplication.run(ReactiveTaxCodeConverterApplication.class, args);
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.CitySearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The endpoint of the servlet {@code CityController}. The search is an in-memory index lookup that never blocks, so it
+ * runs on the event loop as the conversions do.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class ReactiveCityController {
+
+  private final CitySearchService citySearchService;
+
+  @GetMapping("cities:autocomplete")
+  public List<CityResponse> autocomplete(
+      @RequestParam("prefix") String prefix,
+      @RequestParam(name = "province", required = false) String province,
+      @RequestParam(name = "limit", defaultValue = "10") int limit) {
+    return citySearchService.autocomplete(prefix, province, limit);
+  }
+
+}
@@ -0,0 +1,126 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.service.BatchItems;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The endpoints of the servlet {@code TaxCodeConverterController}, with the same paths and payloads. The conversions
+ * are CPU-bound and never block, so they run on the Netty event loop that decoded the request. Batches and streams
+ * are converted one item at a time as the items are decoded.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/",
+    consumes = MediaType.APPLICATION_JSON_VALUE,
+    produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class ReactiveTaxCodeConverterController {
+
+  static final CacheControl PERSON_DATA_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+  private final TaxCodeConverterService taxCodeConverterService;
+  private final TaxCodeValidationService taxCodeValidationService;
+  private final ProblemDetailFactory problemDetailFactory;
+
+  @PostMapping("taxcode:calculate-person-data")
+  public CalculatePersonDataResponse calculatePersonData(@RequestBody CalculatePersonDataRequest request) {
+    return taxCodeConverterService.fromTaxCodeToPerson(request);
+  }
+
+  // A revalidation is answered with a 304 from the entity tag alone, before the code is decoded. Otherwise the entity
+  // tag is set only on the 200, once the lookup has succeeded, so that the error responses carry none.
+  @GetMapping(value = "taxcode/{taxCode}/person-data", consumes = MediaType.ALL_VALUE)
+  public ResponseEntity<CalculatePersonDataResponse> getPersonData(@PathVariable("taxCode") String taxCode,
+      @RequestHeader HttpHeaders headers) {
+    var eTag = taxCodeConverterService.personDataETag(taxCode);
+    if (eTag.isPresent() && TaxCodeConverterService.isNotModified(eTag.get(), headers.getIfNoneMatch())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag.get())
+          .cacheControl(PERSON_DATA_CACHE_CONTROL)
+          .build();
+    }
+    var response = taxCodeConverterService.fromTaxCodeToPerson(CalculatePersonDataRequest.builder()
+        .taxCode(taxCode)
+        .build());
+    var builder = ResponseEntity.ok()
+        .cacheControl(PERSON_DATA_CACHE_CONTROL);
+    eTag.ifPresent(builder::eTag);
+    return builder.body(response);
+  }
+
+  @PostMapping("taxcode:calculate-tax-code")
+  public CalculateTaxCodeResponse calculateTaxCodeFromPerson(@RequestBody CalculateTaxCodeRequest request) {
+    return taxCodeConverterService.fromPersonToTaxCode(request);
+  }
+
+  @PostMapping("taxcode:validate")
+  public ValidateTaxCodeResponse validateTaxCode(@RequestBody CalculatePersonDataRequest request) {
+    return taxCodeValidationService.validate(request);
+  }
+
+  @PostMapping("taxcode:batch-calculate-person-data")
+  public Mono<List<BatchItemResponse<CalculatePersonDataResponse>>> batchCalculatePersonData(
+      @RequestBody Flux<CalculatePersonDataRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromTaxCodeToPerson).collectList();
+  }
+
+  @PostMapping("taxcode:batch-calculate-tax-code")
+  public Mono<List<BatchItemResponse<CalculateTaxCodeResponse>>> batchCalculateTaxCodeFromPersons(
+      @RequestBody Flux<CalculateTaxCodeRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromPersonToTaxCode).collectList();
+  }
+
+  @PostMapping("taxcode:batch-validate")
+  public Mono<List<ValidateTaxCodeResponse>> batchValidateTaxCodes(
+      @RequestBody Flux<CalculatePersonDataRequest> requests) {
+    return requests.collectList().map(taxCodeValidationService::validateAll);
+  }
+
+  @PostMapping(value = "taxcode:stream-calculate-person-data",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<BatchItemResponse<CalculatePersonDataResponse>> streamCalculatePersonData(
+      @RequestBody Flux<CalculatePersonDataRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromTaxCodeToPerson);
+  }
+
+  @PostMapping(value = "taxcode:stream-calculate-tax-code",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<BatchItemResponse<CalculateTaxCodeResponse>> streamCalculateTaxCodeFromPersons(
+      @RequestBody Flux<CalculateTaxCodeRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromPersonToTaxCode);
+  }
+
+  private <I, O> Flux<BatchItemResponse<O>> convert(Flux<I> requests, Function<I, O> conversion) {
+    return requests.index((index, request) -> BatchItems.convert(Math.toIntExact(index), request, conversion,
+        problemDetailFactory));
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.FailureLogger;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.RequestValidationException;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * The error contract of the servlet {@code TaxCodeConverterControllerAdvice}. The errors of the web layer itself,
+ * e.g. an unreadable body, are answered by the {@code ProblemDetail} handler of Spring Boot, as on the servlet stack.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ReactiveTaxCodeConverterControllerAdvice {
+
+  private final ProblemDetailFactory problemDetailFactory;
+  private final FailureLogger failureLogger;
+
+  @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(ConstraintViolationException.class)
+  public ProblemDetail handle(ConstraintViolationException exception) {
+    failureLogger.warn(Failure.VALIDATION, exception);
+    return problemDetailFactory.forConstraintViolation(exception);
+  }
+
+  @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(RequestValidationException.class)
+  public ProblemDetail handle(RequestValidationException exception) {
+    failureLogger.warn(Failure.VALIDATION, exception);
+    return problemDetailFactory.forRequestValidation(exception);
+  }
+
+  @ResponseStatus(code = HttpStatus.NOT_FOUND)
+  @ExceptionHandler(CityNotPresentException.class)
+  public ProblemDetail handle(CityNotPresentException exception) {
+    failureLogger.warn(Failure.CITY_NOT_PRESENT, exception);
+    return problemDetailFactory.forCityNotPresent(exception);
+  }
+
+  @ResponseStatus(code = HttpStatus.INTERNAL_SERVER_ERROR)
+  @ExceptionHandler(RuntimeException.class)
+  public ProblemDetail handle(RuntimeException exception) {
+    failureLogger.warn(Failure.UNEXPECTED, exception);
+    return problemDetailFactory.forUnexpected(exception);
+  }
+
+}
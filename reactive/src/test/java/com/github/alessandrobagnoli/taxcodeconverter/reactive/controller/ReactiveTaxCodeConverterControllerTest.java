@@ -0,0 +1,199 @@
+package com.github.alessandrobagnoli.taxcodeconverter.reactive.controller;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaxCodeConverterControllerTest {
+
+  @Mock
+  private TaxCodeConverterService taxCodeConverterService;
+
+  @Mock
+  private TaxCodeValidationService taxCodeValidationService;
+
+  @Mock
+  private ProblemDetailFactory problemDetailFactory;
+
+  @InjectMocks
+  private ReactiveTaxCodeConverterController underTest;
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(taxCodeConverterService, taxCodeValidationService, problemDetailFactory);
+  }
+
+  @Test
+  void calculatePersonFromTaxCodeShouldSucceed() {
+    // given
+    var input = CalculatePersonDataRequest.builder().build();
+    var expected = CalculatePersonDataResponse.builder()
+        .name("someName")
+        .build();
+    given(taxCodeConverterService.fromTaxCodeToPerson(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.calculatePersonData(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void getPersonDataShouldAnswerNotModifiedWhenETagMatches() {
+    // given
+    var taxCode = "BGNLSN93P19H294L";
+    var headers = new HttpHeaders();
+    headers.setIfNoneMatch("W/\"eTag\"");
+    given(taxCodeConverterService.personDataETag(taxCode)).willReturn(Optional.of("eTag"));
+
+    // when
+    var actual = underTest.getPersonData(taxCode, headers);
+
+    // then
+    assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(actual.getHeaders().getETag()).isEqualTo("\"eTag\"");
+    assertThat(actual.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+    assertThat(actual.getBody()).isNull();
+  }
+
+  @Test
+  void getPersonDataShouldNotSetETagWhenCityNotPresent() {
+    // given
+    var taxCode = "BGNLSN93P19H295P";
+    var exception = new CityNotPresentException("The city with code H295 does not exist");
+    given(taxCodeConverterService.personDataETag(taxCode)).willReturn(Optional.of("eTag"));
+    given(taxCodeConverterService.fromTaxCodeToPerson(CalculatePersonDataRequest.builder()
+        .taxCode(taxCode)
+        .build())).willThrow(exception);
+
+    // when
+    // then
+    assertThatThrownBy(() -> underTest.getPersonData(taxCode, new HttpHeaders())).isSameAs(exception);
+  }
+
+  @Test
+  void calculateTaxCodeFromPersonShouldSucceed() {
+    // given
+    var input = CalculateTaxCodeRequest.builder().build();
+    var expected = CalculateTaxCodeResponse.builder()
+        .taxCode("taxCode")
+        .build();
+    given(taxCodeConverterService.fromPersonToTaxCode(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.calculateTaxCodeFromPerson(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void validateTaxCodeShouldSucceed() {
+    // given
+    var input = CalculatePersonDataRequest.builder().build();
+    var expected = ValidateTaxCodeResponse.builder()
+        .validity(TaxCodeValidity.MISSING)
+        .build();
+    given(taxCodeValidationService.validate(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.validateTaxCode(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void batchValidateTaxCodesShouldValidateAllTheCodesTogether() {
+    // given
+    var first = CalculatePersonDataRequest.builder().taxCode("first").build();
+    var second = CalculatePersonDataRequest.builder().taxCode("second").build();
+    var expected = List.of(
+        ValidateTaxCodeResponse.builder().taxCode("first").validity(TaxCodeValidity.INVALID_LENGTH).build(),
+        ValidateTaxCodeResponse.builder().taxCode("second").validity(TaxCodeValidity.INVALID_LENGTH).build());
+    given(taxCodeValidationService.validateAll(List.of(first, second))).willReturn(expected);
+
+    // when
+    var actual = underTest.batchValidateTaxCodes(Flux.just(first, second));
+
+    // then
+    StepVerifier.create(actual)
+        .expectNext(expected)
+        .verifyComplete();
+  }
+
+  @Test
+  void batchCalculatePersonDataShouldReportPerItemErrors() {
+    // given
+    var first = CalculatePersonDataRequest.builder().taxCode("first").build();
+    var second = CalculatePersonDataRequest.builder().taxCode("second").build();
+    var person = CalculatePersonDataResponse.builder()
+        .name("someName")
+        .build();
+    var exception = new CityNotPresentException("someMessage");
+    var problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+    given(taxCodeConverterService.fromTaxCodeToPerson(first)).willReturn(person);
+    given(taxCodeConverterService.fromTaxCodeToPerson(second)).willThrow(exception);
+    given(problemDetailFactory.from(exception)).willReturn(problemDetail);
+
+    // when
+    var actual = underTest.batchCalculatePersonData(Flux.just(first, second));
+
+    // then
+    StepVerifier.create(actual)
+        .expectNext(List.of(
+            BatchItemResponse.<CalculatePersonDataResponse>builder().index(0).result(person).build(),
+            BatchItemResponse.<CalculatePersonDataResponse>builder().index(1).error(problemDetail).build()))
+        .verifyComplete();
+  }
+
+  @Test
+  void streamCalculateTaxCodeFromPersonsShouldConvertEveryItem() {
+    // given
+    var first = CalculateTaxCodeRequest.builder().name("first").build();
+    var second = CalculateTaxCodeRequest.builder().name("second").build();
+    var firstTaxCode = CalculateTaxCodeResponse.builder().taxCode("firstTaxCode").build();
+    var secondTaxCode = CalculateTaxCodeResponse.builder().taxCode("secondTaxCode").build();
+    given(taxCodeConverterService.fromPersonToTaxCode(first)).willReturn(firstTaxCode);
+    given(taxCodeConverterService.fromPersonToTaxCode(second)).willReturn(secondTaxCode);
+
+    // when
+    var actual = underTest.streamCalculateTaxCodeFromPersons(Flux.just(first, second));
+
+    // then
+    StepVerifier.create(actual)
+        .expectNext(BatchItemResponse.<CalculateTaxCodeResponse>builder().index(0).result(firstTaxCode).build())
+        .expectNext(BatchItemResponse.<CalculateTaxCodeResponse>builder().index(1).result(secondTaxCode).build())
+        .verifyComplete();
+  }
+
+}
@@ -0,0 +1,71 @@
+package com.github.alessandrobagnoli.taxcodeconverter.actuator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry.DatasetVersion;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@ActiveProfiles("cities-admin")
+class CityRegistryEndpointAdminIT {
+
+  @TempDir
+  static Path datasetDirectory;
+
+  @LocalManagementPort
+  private int managementPort;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private CityRegistry cityRegistry;
+
+  @DynamicPropertySource
+  static void datasetDirectory(DynamicPropertyRegistry registry) {
+    registry.add("cities.dataset-directory", datasetDirectory::toString);
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldLoadADatasetOnTheManagementPort() {
+    // given
+    Files.writeString(datasetDirectory.resolve("cities-2999.csv"), """
+        NAME;PROVINCE;CODE
+        RIMINI;RN;H294
+        """, StandardCharsets.UTF_8);
+    var previousVersion = cityRegistry.version();
+    var url = "http://127.0.0.1:" + managementPort + "/actuator/cities";
+
+    // when
+    var actual = restTemplate.postForEntity(url, Map.of("file", "cities-2999.csv", "validFrom", "2999-01-01"),
+        DatasetVersion.class);
+
+    // then
+    assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(actual.getBody()).isNotNull();
+    assertThat(actual.getBody().validFrom()).isEqualTo(LocalDate.of(2999, 1, 1));
+    assertThat(actual.getBody().cities()).isEqualTo(1);
+    assertThat(cityRegistry.version()).isNotEqualTo(previousVersion);
+    assertThat(cityRegistry.versions()).contains(actual.getBody());
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.github.alessandrobagnoli.taxcodeconverter.actuator;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CityRegistryEndpointIT {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @SneakyThrows
+  @Test
+  void shouldNotBeExposedOnTheWebByDefault() {
+    // when
+    var versions = mockMvc.perform(get("/actuator/cities"))
+        .andReturn()
+        .getResponse();
+    var load = mockMvc.perform(post("/actuator/cities")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"file\": \"italian-cities.csv\"}"))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(versions.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    assertThat(load.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+  }
+
+}
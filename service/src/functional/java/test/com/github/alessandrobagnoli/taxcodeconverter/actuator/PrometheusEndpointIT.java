@@ -0,0 +1,67 @@
+package com.github.alessandrobagnoli.taxcodeconverter.actuator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointIT {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private Clock clock;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @SneakyThrows
+  @Test
+  void shouldExposeConversionPhasesAndFailures() {
+    // given
+    var now = Instant.now();
+    given(clock.millis()).willReturn(now.toEpochMilli());
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+    mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(CalculatePersonDataRequest.builder()
+            .taxCode("BGNLSN93P19H295P")
+            .build())));
+
+    // when
+    var actual = mockMvc.perform(get("/actuator/prometheus"))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(actual.getContentAsString())
+        .contains("taxcode_phase_seconds_bucket{phase=\"validation\"")
+        .contains("taxcode_phase_seconds_bucket{phase=\"decoding\"")
+        .contains("taxcode_phase_seconds_bucket{phase=\"city-lookup\"")
+        .contains("taxcode_failures_total{type=\"city-not-present\"");
+  }
+
+}
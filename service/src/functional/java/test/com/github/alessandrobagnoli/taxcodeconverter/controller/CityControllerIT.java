@@ -0,0 +1,75 @@
+package com.github.alessandrobagnoli.taxcodeconverter.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CityControllerIT {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private Clock clock;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @SneakyThrows
+  @Test
+  void autocompleteShouldSucceedAndReturnAsExpected() {
+    // given
+    given(clock.instant()).willReturn(Instant.now());
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = mockMvc.perform(get("/api/v1/cities:autocomplete")
+            .param("prefix", "Agli")
+            .param("province", "to")
+            .param("limit", "2"))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+    var expected = List.of(
+        CityResponse.builder()
+            .name("AGLIÈ")
+            .province("TO")
+            .code("A074")
+            .build());
+    assertThat(actual.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+  }
+
+  @SneakyThrows
+  @Test
+  void autocompleteShouldFailWhenPrefixIsMissing() {
+    // when
+    var actual = mockMvc.perform(get("/api/v1/cities:autocomplete"))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+  }
+
+}
@@ -0,0 +1,150 @@
+package com.github.alessandrobagnoli.taxcodeconverter.controller;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// The direct validation must answer as the method validation checked by TaxCodeConverterControllerIT
+@SpringBootTest(properties = "taxcode.validation.mode=direct")
+@AutoConfigureMockMvc
+class DirectValidationIT {
+
+  private static final String TIMESTAMP_PROPERTY = "timestamp";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TaxCodeConverterService taxCodeConverterService;
+
+  @MockBean
+  private Clock clock;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void serviceShouldNotBeProxied() {
+    // given
+
+    // when
+    var actual = AopUtils.isAopProxy(taxCodeConverterService);
+
+    // then
+    assertThat(actual).isFalse();
+  }
+
+  @SneakyThrows
+  @Test
+  void calculateTaxCodeShouldSucceed() {
+    // given
+    var input = CalculateTaxCodeRequest.builder()
+        .gender(Gender.MALE)
+        .birthPlace("Rimini")
+        .province("RN")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .name("Alessandro")
+        .surname("Bagnoli")
+        .build();
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-tax-code")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(input)))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(CalculateTaxCodeResponse.builder()
+        .taxCode("BGNLSN93P19H294L")
+        .build()));
+  }
+
+  @SneakyThrows
+  @Test
+  void calculatePersonDataShouldFailWhenInvalidTaxCode() {
+    // given
+    var input = CalculatePersonDataRequest.builder()
+        .taxCode("BGNLSN93P19H294A")
+        .build();
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+
+    // when
+    var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(input)))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(actual.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    var expected = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    expected.setInstance(URI.create("/api/v1/taxcode:calculate-person-data"));
+    expected.setProperty(TIMESTAMP_PROPERTY, now);
+    expected.setDetail("Invalid CalculatePersonDataRequest: invalid value for property taxCode");
+    assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+  }
+
+  @SneakyThrows
+  @Test
+  void calculateTaxCodeShouldFailWhenCountryWithBirthPlace() {
+    // given
+    var input = CalculateTaxCodeRequest.builder()
+        .gender(Gender.MALE)
+        .birthPlace("Rimini")
+        .country("Francia")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .name("Alessandro")
+        .surname("Bagnoli")
+        .build();
+    var now = Instant.now();
+    given(clock.instant()).willReturn(now);
+    given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+    // when
+    var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-tax-code")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(input)))
+        .andReturn()
+        .getResponse();
+
+    // then
+    assertThat(actual.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    var expected = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    expected.setInstance(URI.create("/api/v1/taxcode:calculate-tax-code"));
+    expected.setProperty(TIMESTAMP_PROPERTY, now);
+    expected.setDetail("Invalid CalculateTaxCodeRequest: property birthPlace must not be set together with country");
+    assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+  }
+
+}
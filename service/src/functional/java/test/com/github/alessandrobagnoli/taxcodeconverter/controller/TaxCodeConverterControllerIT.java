@@ -1,6 +1,9 @@
 package com.github.alessandrobagnoli.taxcodeconverter.controller;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -10,18 +13,33 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.ArrowTaxCodeConverter;
+import com.github.alessandrobagnoli.taxcodeconverter.config.WireFormatConfig;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
 import lombok.SneakyThrows;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider.MapDictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -29,6 +47,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @SpringBootTest
@@ -57,6 +76,10 @@ class TaxCodeConverterControllerIT {
       var input = CalculatePersonDataRequest.builder()
           .taxCode(taxCode)
           .build();
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
 
       // when
       var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
@@ -75,10 +98,103 @@ class TaxCodeConverterControllerIT {
           .dateOfBirth(LocalDate.of(1993, 9, 19))
           .name("LSN")
           .surname("BGN")
+          .substitutedPositions(List.of())
+          .build();
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldSucceedWhenBornAbroad() {
+      // given
+      var taxCode = "BGNLSN93P19Z404Y";
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode(taxCode)
+          .build();
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = CalculatePersonDataResponse.builder()
+          .taxCode(taxCode)
+          .gender(Gender.MALE)
+          .birthPlace("STATI UNITI D'AMERICA")
+          .province("EE")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("LSN")
+          .surname("BGN")
+          .substitutedPositions(List.of())
           .build();
       assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
     }
 
+    @SneakyThrows
+    @Test
+    void getShouldBeCacheableAndAnswerNotModifiedWhenETagMatches() {
+      // given
+      var taxCode = "BGNLSN93P19H294L";
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(get("/api/v1/taxcode/{taxCode}/person-data", taxCode))
+          .andReturn()
+          .getResponse();
+      var revalidated = mockMvc.perform(get("/api/v1/taxcode/{taxCode}/person-data", taxCode)
+              .header(HttpHeaders.IF_NONE_MATCH, actual.getHeader(HttpHeaders.ETAG)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      assertThat(actual.getHeader(HttpHeaders.ETAG)).startsWith("\"" + taxCode + "-");
+      assertThat(actual.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=3600, public");
+      assertThat(objectMapper.readValue(actual.getContentAsString(), CalculatePersonDataResponse.class).birthPlace())
+          .isEqualTo("RIMINI");
+      assertThat(revalidated.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+      assertThat(revalidated.getHeaders(HttpHeaders.ETAG)).containsExactly(actual.getHeader(HttpHeaders.ETAG));
+      assertThat(revalidated.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=3600, public");
+      assertThat(revalidated.getContentAsString()).isEmpty();
+    }
+
+    @SneakyThrows
+    @Test
+    void getShouldNotCarryETagWhenCityNotPresent() {
+      // given
+      var taxCode = "BGNLSN93P19H295P";
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(get("/api/v1/taxcode/{taxCode}/person-data", taxCode))
+          .andReturn()
+          .getResponse();
+      var revalidated = mockMvc.perform(get("/api/v1/taxcode/{taxCode}/person-data", taxCode)
+              .header(HttpHeaders.IF_NONE_MATCH, "\"" + taxCode + "-outdated\""))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+      assertThat(actual.getHeader(HttpHeaders.ETAG)).isNull();
+      assertThat(revalidated.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+      assertThat(revalidated.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
     @SneakyThrows
     @Test
     void shouldFailWhenInvalidTaxCode() {
@@ -107,16 +223,46 @@ class TaxCodeConverterControllerIT {
       assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
     }
 
+    @SneakyThrows
+    @Test
+    void shouldFailWhenWrongControlCharacter() {
+      // given
+      var taxCode = "BGNLSN93P19H294A";
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode(taxCode)
+          .build();
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+      assertThat(actual.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+      var expected = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+      expected.setInstance(URI.create("/api/v1/taxcode:calculate-person-data"));
+      expected.setProperty(TIMESTAMP_PROPERTY, now);
+      expected.setDetail("Invalid CalculatePersonDataRequest: invalid value for property taxCode");
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
     @SneakyThrows
     @Test
     void shouldFailWhenNoCityFound() {
       // given
-      var taxCode = "BGNLSN93P19H295L";
+      var taxCode = "BGNLSN93P19H295P";
       var input = CalculatePersonDataRequest.builder()
           .taxCode(taxCode)
           .build();
       var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
       given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
 
       // when
       var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
@@ -171,6 +317,101 @@ class TaxCodeConverterControllerIT {
       assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
     }
 
+    @SneakyThrows
+    @Test
+    void shouldSucceedWhenBirthPlaceIsSpelledDifferently() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .birthPlace(" Albiano  d Ivrea ")
+          .province("to")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-tax-code")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = CalculateTaxCodeResponse.builder()
+          .taxCode("BGNLSN93P19A157D")
+          .build();
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldSucceedWhenBornAbroad() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .country("Francia")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-tax-code")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = CalculateTaxCodeResponse.builder()
+          .taxCode("BGNLSN93P19Z110I")
+          .build();
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldFailWhenCountryIsSetTogetherWithBirthPlace() {
+      // given
+      var input = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .birthPlace("Rimini")
+          .province("RN")
+          .country("Francia")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-tax-code")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+      var actualResponseDeserialized = objectMapper.readValue(actual.getContentAsString(), ProblemDetail.class);
+      assertThat(actualResponseDeserialized.getDetail()).isNotNull();
+      assertThat(Arrays.stream(actualResponseDeserialized.getDetail().split(","))
+          .toList()).containsExactlyInAnyOrder(
+          "Invalid CalculateTaxCodeRequest: property birthPlace must not be set together with country",
+          "Invalid CalculateTaxCodeRequest: property province must not be set together with country");
+    }
+
     @SneakyThrows
     @Test
     void shouldFailWhenInvalidRequest() {
@@ -244,5 +485,417 @@ class TaxCodeConverterControllerIT {
 
   }
 
+  @Nested
+  class ValidateTaxCodeTests {
+
+    @SneakyThrows
+    @Test
+    void shouldReturnValid() {
+      // given
+      var taxCode = "BGNLSN93P19H29QI";
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode(taxCode)
+          .build();
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:validate")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = ValidateTaxCodeResponse.builder()
+          .taxCode(taxCode)
+          .valid(true)
+          .validity(TaxCodeValidity.VALID)
+          .build();
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldReturnInvalidWhenWrongControlCharacter() {
+      // given
+      var taxCode = "BGNLSN93P19H294A";
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode(taxCode)
+          .build();
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:validate")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = ValidateTaxCodeResponse.builder()
+          .taxCode(taxCode)
+          .valid(false)
+          .validity(TaxCodeValidity.INVALID_CONTROL_CHARACTER)
+          .build();
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void batchShouldValidateEveryCode() {
+      // given
+      var taxCodes = List.of("BGNLSN93P19H294L", "BGNLSN93P19H29QI", "BGNLSN93P19H294A", "12345678901");
+      var input = taxCodes.stream()
+          .map(taxCode -> CalculatePersonDataRequest.builder()
+              .taxCode(taxCode)
+              .build())
+          .toList();
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:batch-validate")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = List.of(
+          ValidateTaxCodeResponse.builder()
+              .taxCode("BGNLSN93P19H294L")
+              .valid(true)
+              .validity(TaxCodeValidity.VALID)
+              .build(),
+          ValidateTaxCodeResponse.builder()
+              .taxCode("BGNLSN93P19H29QI")
+              .valid(true)
+              .validity(TaxCodeValidity.VALID)
+              .build(),
+          ValidateTaxCodeResponse.builder()
+              .taxCode("BGNLSN93P19H294A")
+              .valid(false)
+              .validity(TaxCodeValidity.INVALID_CONTROL_CHARACTER)
+              .build(),
+          ValidateTaxCodeResponse.builder()
+              .taxCode("12345678901")
+              .valid(true)
+              .validity(TaxCodeValidity.VALID)
+              .build());
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+  }
+
+  @Nested
+  class BatchTests {
+
+    @SneakyThrows
+    @Test
+    void batchCalculatePersonDataShouldReportPerItemErrors() {
+      // given
+      var input = List.of(
+          CalculatePersonDataRequest.builder()
+              .taxCode("BGNLSN93P19H294L")
+              .build(),
+          CalculatePersonDataRequest.builder()
+              .taxCode("BGNLSN93P19H295P")
+              .build(),
+          CalculatePersonDataRequest.builder()
+              .taxCode("invalidTaxCode")
+              .build());
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:batch-calculate-person-data")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expectedPerson = CalculatePersonDataResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .gender(Gender.MALE)
+          .birthPlace("RIMINI")
+          .province("RN")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("LSN")
+          .surname("BGN")
+          .substitutedPositions(List.of())
+          .build();
+      var cityNotFound = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+      cityNotFound.setDetail("The city with code H295 does not exist");
+      cityNotFound.setProperty(TIMESTAMP_PROPERTY, now);
+      var invalidTaxCode = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+      invalidTaxCode.setDetail("Invalid CalculatePersonDataRequest: invalid value for property taxCode");
+      invalidTaxCode.setProperty(TIMESTAMP_PROPERTY, now);
+      var expected = List.of(
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(0).result(expectedPerson).build(),
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(1).error(cityNotFound).build(),
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(2).error(invalidTaxCode).build());
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    void batchCalculateTaxCodeShouldSucceed() {
+      // given
+      var input = List.of(
+          CalculateTaxCodeRequest.builder()
+              .gender(Gender.MALE)
+              .birthPlace("Rimini")
+              .province("RN")
+              .dateOfBirth(LocalDate.of(1993, 9, 19))
+              .name("Alessandro")
+              .surname("Bagnoli")
+              .build(),
+          CalculateTaxCodeRequest.builder()
+              .gender(Gender.FEMALE)
+              .birthPlace("Pesaro")
+              .province("PU")
+              .dateOfBirth(LocalDate.of(2010, 10, 5))
+              .name("Rosalia")
+              .surname("Pietra")
+              .build());
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:batch-calculate-tax-code")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      var expected = List.of(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder()
+              .index(0)
+              .result(CalculateTaxCodeResponse.builder()
+                  .taxCode("BGNLSN93P19H294L")
+                  .build())
+              .build(),
+          BatchItemResponse.<CalculateTaxCodeResponse>builder()
+              .index(1)
+              .result(CalculateTaxCodeResponse.builder()
+                  .taxCode("PTRRSL10R45G479I")
+                  .build())
+              .build());
+      assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+  }
+
+  @Nested
+  class StreamTests {
+
+    @SneakyThrows
+    @Test
+    void streamCalculateTaxCodeShouldWriteOneLinePerRecord() {
+      // given
+      var valid = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .birthPlace("Rimini")
+          .province("RN")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      var unknownCity = CalculateTaxCodeRequest.builder()
+          .gender(Gender.MALE)
+          .birthPlace("fakeCity")
+          .province("fakeProvince")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("Alessandro")
+          .surname("Bagnoli")
+          .build();
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:stream-calculate-tax-code")
+              .contentType(MediaType.APPLICATION_NDJSON)
+              .accept(MediaType.APPLICATION_NDJSON)
+              .content(objectMapper.writeValueAsString(valid) + "\n" + objectMapper.writeValueAsString(unknownCity)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      assertThat(actual.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+      var cityNotFound = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+      cityNotFound.setDetail("The city fakeCity and province fakeProvince do not exist");
+      cityNotFound.setProperty(TIMESTAMP_PROPERTY, now);
+      var expected = objectMapper.writeValueAsString(BatchItemResponse.<CalculateTaxCodeResponse>builder()
+          .index(0)
+          .result(CalculateTaxCodeResponse.builder()
+              .taxCode("BGNLSN93P19H294L")
+              .build())
+          .build()) + "\n"
+          + objectMapper.writeValueAsString(BatchItemResponse.<CalculateTaxCodeResponse>builder()
+          .index(1)
+          .error(cityNotFound)
+          .build()) + "\n";
+      assertThat(actual.getContentAsString()).isEqualTo(expected);
+    }
+
+  }
+
+  @Nested
+  class CborTests {
+
+    private final ObjectMapper cborMapper = WireFormatConfig.cborMapper();
+
+    @SneakyThrows
+    @Test
+    void calculatePersonDataShouldNegotiateCbor() {
+      // given
+      var taxCode = "BGNLSN93P19H294L";
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode(taxCode)
+          .build();
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:calculate-person-data")
+              .contentType(MediaType.APPLICATION_CBOR)
+              .accept(MediaType.APPLICATION_CBOR)
+              .content(cborMapper.writeValueAsBytes(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      assertThat(actual.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+      var expected = CalculatePersonDataResponse.builder()
+          .taxCode(taxCode)
+          .gender(Gender.MALE)
+          .birthPlace("RIMINI")
+          .province("RN")
+          .dateOfBirth(LocalDate.of(1993, 9, 19))
+          .name("LSN")
+          .surname("BGN")
+          .substitutedPositions(List.of())
+          .build();
+      assertThat(cborMapper.readValue(actual.getContentAsByteArray(), CalculatePersonDataResponse.class))
+          .isEqualTo(expected);
+    }
+
+    @SneakyThrows
+    @Test
+    void batchCalculateTaxCodeShouldNegotiateCbor() {
+      // given
+      var input = List.of(
+          CalculateTaxCodeRequest.builder()
+              .gender(Gender.MALE)
+              .birthPlace("Rimini")
+              .province("RN")
+              .dateOfBirth(LocalDate.of(1993, 9, 19))
+              .name("Alessandro")
+              .surname("Bagnoli")
+              .build(),
+          CalculateTaxCodeRequest.builder()
+              .gender(Gender.FEMALE)
+              .birthPlace("Pesaro")
+              .province("PU")
+              .dateOfBirth(LocalDate.of(2010, 10, 5))
+              .name("Rosalia")
+              .surname("Pietra")
+              .build());
+      var now = Instant.now();
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:batch-calculate-tax-code")
+              .contentType(MediaType.APPLICATION_CBOR)
+              .accept(MediaType.APPLICATION_CBOR)
+              .content(cborMapper.writeValueAsBytes(input)))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      assertThat(actual.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+      var expected = List.of(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder()
+              .index(0)
+              .result(CalculateTaxCodeResponse.builder()
+                  .taxCode("BGNLSN93P19H294L")
+                  .build())
+              .build(),
+          BatchItemResponse.<CalculateTaxCodeResponse>builder()
+              .index(1)
+              .result(CalculateTaxCodeResponse.builder()
+                  .taxCode("PTRRSL10R45G479I")
+                  .build())
+              .build());
+      assertThat(actual.getContentAsByteArray()).isEqualTo(cborMapper.writeValueAsBytes(expected));
+    }
+
+  }
+
+  @Nested
+  class ColumnarTests {
+
+    @SneakyThrows
+    @Test
+    void columnarCalculatePersonDataShouldConvertEachRow() {
+      // given
+      var now = Instant.now();
+      given(clock.millis()).willReturn(now.toEpochMilli());
+      given(clock.instant()).willReturn(now);
+      given(clock.getZone()).willReturn(ZoneOffset.UTC);
+      var input = new ByteArrayOutputStream();
+      try (var allocator = new RootAllocator();
+           var taxCodes = VectorSchemaRoot.create(new Schema(List.of(
+               Field.nullable(ArrowTaxCodeConverter.TAX_CODE, ArrowType.Utf8.INSTANCE))), allocator);
+           var writer = new ArrowStreamWriter(taxCodes, new MapDictionaryProvider(), input)) {
+        var vector = (VarCharVector) taxCodes.getVector(ArrowTaxCodeConverter.TAX_CODE);
+        vector.allocateNew();
+        vector.setSafe(0, "BGNLSN93P19H294L".getBytes(StandardCharsets.UTF_8));
+        vector.setSafe(1, "BGNLSN93P19H295P".getBytes(StandardCharsets.UTF_8));
+        taxCodes.setRowCount(2);
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+
+      // when
+      var actual = mockMvc.perform(post("/api/v1/taxcode:columnar-calculate-person-data")
+              .contentType(ArrowTaxCodeConverter.MEDIA_TYPE)
+              .accept(ArrowTaxCodeConverter.MEDIA_TYPE)
+              .content(input.toByteArray()))
+          .andReturn()
+          .getResponse();
+
+      // then
+      assertThat(actual.getStatus()).isEqualTo(HttpStatus.OK.value());
+      assertThat(actual.getContentType()).isEqualTo(ArrowTaxCodeConverter.MEDIA_TYPE);
+      try (var allocator = new RootAllocator();
+           var reader = new ArrowStreamReader(new ByteArrayInputStream(actual.getContentAsByteArray()), allocator)) {
+        assertThat(reader.loadNextBatch()).isTrue();
+        var persons = reader.getVectorSchemaRoot();
+        assertThat(persons.getRowCount()).isEqualTo(2);
+        assertThat(persons.getVector(ArrowTaxCodeConverter.BIRTH_PLACE).getObject(0)).hasToString("RIMINI");
+        assertThat(persons.getVector(ArrowTaxCodeConverter.ERROR).getObject(0)).isNull();
+        assertThat(persons.getVector(ArrowTaxCodeConverter.BIRTH_PLACE).getObject(1)).isNull();
+        assertThat(persons.getVector(ArrowTaxCodeConverter.ERROR).getObject(1))
+            .hasToString("The city with code H295 does not exist");
+        assertThat(reader.loadNextBatch()).isFalse();
+      }
+    }
+
+  }
 
-}
\ No newline at end of file
+}
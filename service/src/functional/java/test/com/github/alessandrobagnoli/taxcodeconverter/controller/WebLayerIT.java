@@ -6,12 +6,22 @@ import java.time.Instant;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.FailureLogger;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import com.github.alessandrobagnoli.taxcodeconverter.service.CitySearchService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeBatchService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeColumnarService;
 import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeStreamService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -19,9 +29,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @WebMvcTest
+@Import({ProblemDetailFactory.class, FailureLogger.class})
 class WebLayerIT {
 
   private static final String TIMESTAMP_PROPERTY = "timestamp";
@@ -29,6 +41,24 @@ class WebLayerIT {
   @MockBean
   private TaxCodeConverterService taxCodeConverterService;
 
+  @MockBean
+  private TaxCodeBatchService taxCodeBatchService;
+
+  @MockBean
+  private TaxCodeStreamService taxCodeStreamService;
+
+  @MockBean
+  private TaxCodeColumnarService taxCodeColumnarService;
+
+  @MockBean
+  private TaxCodeValidationService taxCodeValidationService;
+
+  @MockBean
+  private CitySearchService citySearchService;
+
+  @MockBean
+  private TaxCodeMetrics taxCodeMetrics;
+
   @MockBean
   private Clock clock;
 
@@ -65,5 +95,6 @@ class WebLayerIT {
     expected.setDetail("dummyException");
     expected.setInstance(URI.create("/api/v1/taxcode:calculate-person-data"));
     assertThat(actual.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+    verify(taxCodeMetrics).increment(Failure.UNEXPECTED);
   }
 }
@@ -0,0 +1,59 @@
+package com.github.alessandrobagnoli.taxcodeconverter.actuator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry.DatasetVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lists the loaded versions of the city dataset and loads new ones without a restart. Only files in the directory
+ * configured by {@code cities.dataset-directory} can be loaded. It is off the web exposure by default, being
+ * unauthenticated: it is reachable through JMX or, with the {@code cities-admin} profile, on the management port.
+ */
+@Component
+@Endpoint(id = "cities")
+public class CityRegistryEndpoint {
+
+  private final CityRegistry cityRegistry;
+  private final Path datasetDirectory;
+
+  public CityRegistryEndpoint(CityRegistry cityRegistry,
+      @Value("${cities.dataset-directory}") Path datasetDirectory) {
+    this.cityRegistry = cityRegistry;
+    this.datasetDirectory = datasetDirectory.toAbsolutePath().normalize();
+  }
+
+  @ReadOperation
+  public List<DatasetVersion> versions() {
+    return cityRegistry.versions();
+  }
+
+  /**
+   * @param file      - the csv file or binary dataset to be loaded, relative to the dataset directory
+   * @param validFrom - the first day the dataset is valid for, if missing the dataset is valid for any date
+   */
+  @WriteOperation
+  public DatasetVersion load(String file, @Nullable LocalDate validFrom) throws IOException {
+    var path = datasetDirectory.resolve(file).normalize();
+    if (!path.startsWith(datasetDirectory)) {
+      throw new InvalidEndpointRequestException(String.format("The file %s is outside of the dataset directory", file),
+          "File outside of the dataset directory");
+    }
+    try {
+      return cityRegistry.load(path, validFrom != null ? validFrom : LocalDate.MIN);
+    } catch (IllegalStateException e) {
+      throw new InvalidEndpointRequestException(e.getMessage(), "Invalid dataset");
+    }
+  }
+
+}
@@ -1,14 +1,14 @@
 package com.github.alessandrobagnoli.taxcodeconverter.config;
 
 import java.time.Clock;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import com.github.alessandrobagnoli.taxcodeconverter.utils.CityCSVLoader;
-import com.github.alessandrobagnoli.taxcodeconverter.utils.CityCSVLoader.CityCSV;
-import lombok.Builder;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CenturyPivot;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityCSVLoader;
+import com.github.alessandrobagnoli.taxcodeconverter.core.city.CityDataset;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,31 +20,30 @@ public class AppConfig {
     return Clock.systemUTC();
   }
 
-  @Bean
-  public List<CityCSV> cities() {
-    return new CityCSVLoader().parseCities();
+  @Bean(destroyMethod = "shutdown")
+  public ForkJoinPool batchPool() {
+    return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
   }
 
   @Bean
-  public Map<String, CityCSV> cityCodesCache(List<CityCSV> cities) {
-    return cities.stream().collect(Collectors.toMap(CityCSV::getCode, Function.identity()));
+  public CityDataset cityDataset() {
+    return new CityCSVLoader().loadDataset();
   }
 
   @Bean
-  public Map<Place, CityCSV> cityPlacesCache(List<CityCSV> cities) {
-    return cities.stream().collect(Collectors.toMap(
-        city -> Place.builder()
-            .cityName(city.getName())
-            .province(city.getProvince())
-            .build(),
-        Function.identity()));
+  public CityRegistry cityRegistry(CityDataset cityDataset) {
+    return new CityRegistry(cityDataset);
   }
 
-  @Builder
-  public record Place(
-      String cityName,
-      String province) {
+  @Bean
+  public CenturyPivot centuryPivot(Clock clock) {
+    return new CenturyPivot(clock);
+  }
 
+  @Bean
+  public TaxCodeCalculator taxCodeCalculator(CityRegistry cityRegistry, CenturyPivot centuryPivot,
+      TaxCodeMetrics taxCodeMetrics) {
+    return new TaxCodeCalculator(cityRegistry, centuryPivot, taxCodeMetrics);
   }
 
 }
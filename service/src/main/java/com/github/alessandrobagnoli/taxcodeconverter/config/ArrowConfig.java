@@ -0,0 +1,31 @@
+package com.github.alessandrobagnoli.taxcodeconverter.config;
+
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.ArrowTaxCodeConverter;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * The Arrow columnar format of the analytics pipelines. Arrow needs {@code --add-opens=java.base/java.nio=ALL-UNNAMED}
+ * on JDK 17, so its memory is only allocated with the first columnar request: without that option the service still
+ * starts and serves all the other formats. {@code spring-boot:run} passes the option, any other launch has to add it
+ * to the JVM arguments, see {@code benchmarks/load/README.md}.
+ */
+@Configuration
+public class ArrowConfig {
+
+  @Bean
+  public ArrowTaxCodeConverter arrowTaxCodeConverter(TaxCodeCalculator taxCodeCalculator) {
+    return new ArrowTaxCodeConverter(taxCodeCalculator);
+  }
+
+  @Lazy
+  @Bean(destroyMethod = "close")
+  public BufferAllocator arrowAllocator() {
+    return new RootAllocator();
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.github.alessandrobagnoli.taxcodeconverter.config;
+
+import java.time.Clock;
+
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.RequestValidation;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.DirectRequestValidation;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.MethodRequestValidation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.validation.beanvalidation.MethodValidationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses how the requests of {@link TaxCodeConverterService} are validated, through the
+ * {@code taxcode.validation.mode} property:
+ * <ul>
+ *   <li>{@code method}, the default: by the method validation proxy, running the ConstraintValidators of the
+ *   annotated parameters</li>
+ *   <li>{@code direct}: by {@link DirectRequestValidation}, called by the service itself, which is then left without
+ *   the proxy</li>
+ * </ul>
+ * Both answer an invalid request with the same {@code ProblemDetail}.
+ */
+@Configuration
+public class ValidationConfig {
+
+  static final String MODE_PROPERTY = "taxcode.validation.mode";
+
+  @Bean
+  @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "method", matchIfMissing = true)
+  public RequestValidation methodRequestValidation() {
+    return new MethodRequestValidation();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "direct")
+  public RequestValidation directRequestValidation(Clock clock, TaxCodeMetrics taxCodeMetrics) {
+    return new DirectRequestValidation(clock, taxCodeMetrics);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "direct")
+  public static MethodValidationExcludeFilter directValidationExcludeFilter() {
+    return type -> TaxCodeConverterService.class.isAssignableFrom(type);
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.github.alessandrobagnoli.taxcodeconverter.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Warns when the {@code virtual-threads} profile is active on a runtime without virtual threads, where Spring Boot
+ * silently keeps serving the requests from the platform thread pool.
+ */
+@Log4j2
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+  static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void checkRuntime() {
+    var javaVersion = Runtime.version().feature();
+    if (javaVersion < VIRTUAL_THREADS_JAVA_VERSION) {
+      log.warn("Virtual threads need Java {}, requests are served by the platform thread pool on Java {}",
+          VIRTUAL_THREADS_JAVA_VERSION, javaVersion);
+    } else {
+      log.info("Requests are served on virtual threads");
+    }
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.github.alessandrobagnoli.taxcodeconverter.config;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The CBOR format negotiated by the internal high-volume callers through {@code Content-Type} and {@code Accept}: the
+ * same fields as the JSON one, with binary framing, the dates as epoch days and the gender as its
+ * {@link Gender#getValue() value}, i.e. a single byte each.
+ */
+@Configuration
+public class WireFormatConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+    return new MappingJackson2CborHttpMessageConverter(cborMapper());
+  }
+
+  // public for the callers and the benchmarks, which must encode the same way
+  public static ObjectMapper cborMapper() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    objectMapper.configOverride(LocalDate.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.NUMBER_INT));
+    // the ordinal of a Gender is its value
+    objectMapper.configOverride(Gender.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.NUMBER_INT));
+    return objectMapper;
+  }
+
+}
@@ -1,34 +1,138 @@
 package com.github.alessandrobagnoli.taxcodeconverter.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.ArrowTaxCodeConverter;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeBatchService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeColumnarService;
 import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeStreamService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+// JSON is the default, CBOR is the compact format of the internal high-volume callers, see WireFormatConfig
 @RestController
 @RequestMapping(value = "/api/v1/",
-    consumes = MediaType.APPLICATION_JSON_VALUE,
-    produces = MediaType.APPLICATION_JSON_VALUE)
+    consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 public class TaxCodeConverterController {
 
+  static final CacheControl PERSON_DATA_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
   private final TaxCodeConverterService taxCodeConverterService;
+  private final TaxCodeBatchService taxCodeBatchService;
+  private final TaxCodeStreamService taxCodeStreamService;
+  private final TaxCodeColumnarService taxCodeColumnarService;
+  private final TaxCodeValidationService taxCodeValidationService;
 
   @PostMapping("taxcode:calculate-person-data")
   public CalculatePersonDataResponse calculatePersonData(@RequestBody CalculatePersonDataRequest request) {
     return taxCodeConverterService.fromTaxCodeToPerson(request);
   }
 
+  // A revalidation is answered with a 304 from the entity tag alone, before the code is decoded. Otherwise the entity
+  // tag is set only on the 200, once the lookup has succeeded, so that the error responses carry none.
+  @GetMapping(value = "taxcode/{taxCode}/person-data", consumes = MediaType.ALL_VALUE)
+  public ResponseEntity<CalculatePersonDataResponse> getPersonData(@PathVariable("taxCode") String taxCode,
+      @RequestHeader HttpHeaders headers) {
+    var eTag = taxCodeConverterService.personDataETag(taxCode);
+    if (eTag.isPresent() && TaxCodeConverterService.isNotModified(eTag.get(), headers.getIfNoneMatch())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag.get())
+          .cacheControl(PERSON_DATA_CACHE_CONTROL)
+          .build();
+    }
+    var response = taxCodeConverterService.fromTaxCodeToPerson(CalculatePersonDataRequest.builder()
+        .taxCode(taxCode)
+        .build());
+    var builder = ResponseEntity.ok()
+        .cacheControl(PERSON_DATA_CACHE_CONTROL);
+    eTag.ifPresent(builder::eTag);
+    return builder.body(response);
+  }
+
   @PostMapping("taxcode:calculate-tax-code")
   public CalculateTaxCodeResponse calculateTaxCodeFromPerson(@RequestBody CalculateTaxCodeRequest request) {
     return taxCodeConverterService.fromPersonToTaxCode(request);
   }
 
+  @PostMapping("taxcode:validate")
+  public ValidateTaxCodeResponse validateTaxCode(@RequestBody CalculatePersonDataRequest request) {
+    return taxCodeValidationService.validate(request);
+  }
+
+  @PostMapping("taxcode:batch-calculate-person-data")
+  public List<BatchItemResponse<CalculatePersonDataResponse>> batchCalculatePersonData(
+      @RequestBody List<CalculatePersonDataRequest> requests) {
+    return taxCodeBatchService.fromTaxCodesToPersons(requests);
+  }
+
+  @PostMapping("taxcode:batch-calculate-tax-code")
+  public List<BatchItemResponse<CalculateTaxCodeResponse>> batchCalculateTaxCodeFromPersons(
+      @RequestBody List<CalculateTaxCodeRequest> requests) {
+    return taxCodeBatchService.fromPersonsToTaxCodes(requests);
+  }
+
+  @PostMapping("taxcode:batch-validate")
+  public List<ValidateTaxCodeResponse> batchValidateTaxCodes(@RequestBody List<CalculatePersonDataRequest> requests) {
+    return taxCodeValidationService.validateAll(requests);
+  }
+
+  @PostMapping(value = "taxcode:stream-calculate-person-data",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void streamCalculatePersonData(InputStream requests, HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    taxCodeStreamService.fromTaxCodesToPersons(requests, response.getOutputStream());
+  }
+
+  @PostMapping(value = "taxcode:stream-calculate-tax-code",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void streamCalculateTaxCodeFromPersons(InputStream requests, HttpServletResponse response)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    taxCodeStreamService.fromPersonsToTaxCodes(requests, response.getOutputStream());
+  }
+
+  @PostMapping(value = "taxcode:columnar-calculate-person-data",
+      consumes = ArrowTaxCodeConverter.MEDIA_TYPE,
+      produces = ArrowTaxCodeConverter.MEDIA_TYPE)
+  public void columnarCalculatePersonData(InputStream requests, HttpServletResponse response) throws IOException {
+    response.setContentType(ArrowTaxCodeConverter.MEDIA_TYPE);
+    taxCodeColumnarService.fromTaxCodesToPersons(requests, response.getOutputStream());
+  }
+
+  @PostMapping(value = "taxcode:columnar-calculate-tax-code",
+      consumes = ArrowTaxCodeConverter.MEDIA_TYPE,
+      produces = ArrowTaxCodeConverter.MEDIA_TYPE)
+  public void columnarCalculateTaxCodeFromPersons(InputStream requests, HttpServletResponse response)
+      throws IOException {
+    response.setContentType(ArrowTaxCodeConverter.MEDIA_TYPE);
+    taxCodeColumnarService.fromPersonsToTaxCodes(requests, response.getOutputStream());
+  }
+
 }
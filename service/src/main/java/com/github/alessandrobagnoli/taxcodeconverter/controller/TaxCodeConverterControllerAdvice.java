@@ -1,12 +1,13 @@
 package com.github.alessandrobagnoli.taxcodeconverter.controller;
 
-import java.time.Clock;
-
-import com.github.alessandrobagnoli.taxcodeconverter.exception.CityNotPresentException;
-import jakarta.validation.ConstraintViolation;
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.InvalidBatchException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.FailureLogger;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.RequestValidationException;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,43 +17,44 @@ import org.springframework.web.context.request.WebRequest;
 
 @RestControllerAdvice
 @RequiredArgsConstructor
-@Log4j2
 public class TaxCodeConverterControllerAdvice {
 
-  private static final String TIMESTAMP_PROPERTY = "timestamp";
-
-  private final Clock clock;
+  private final ProblemDetailFactory problemDetailFactory;
+  private final FailureLogger failureLogger;
 
   @ResponseStatus(code = HttpStatus.BAD_REQUEST)
   @ExceptionHandler(ConstraintViolationException.class)
   public ProblemDetail handle(ConstraintViolationException exception) {
-    log.warn(exception);
-    var problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
-    problemDetail.setDetail(String.join(",", exception.getConstraintViolations().stream()
-        .map(ConstraintViolation::getMessage)
-        .toList()));
-    problemDetail.setProperty(TIMESTAMP_PROPERTY, clock.instant());
-    return problemDetail;
+    failureLogger.warn(Failure.VALIDATION, exception);
+    return problemDetailFactory.forConstraintViolation(exception);
+  }
+
+  @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(RequestValidationException.class)
+  public ProblemDetail handle(RequestValidationException exception) {
+    failureLogger.warn(Failure.VALIDATION, exception);
+    return problemDetailFactory.forRequestValidation(exception);
   }
 
   @ResponseStatus(code = HttpStatus.NOT_FOUND)
   @ExceptionHandler(CityNotPresentException.class)
   public ProblemDetail handle(CityNotPresentException exception, WebRequest webRequest) {
-    log.warn(exception);
-    var problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
-    problemDetail.setDetail(exception.getMessage());
-    problemDetail.setProperty(TIMESTAMP_PROPERTY, clock.instant());
-    return problemDetail;
+    failureLogger.warn(Failure.CITY_NOT_PRESENT, exception);
+    return problemDetailFactory.forCityNotPresent(exception);
+  }
+
+  @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(InvalidBatchException.class)
+  public ProblemDetail handle(InvalidBatchException exception) {
+    failureLogger.warn(Failure.VALIDATION, exception);
+    return problemDetailFactory.forInvalidBatch(exception);
   }
 
   @ResponseStatus(code = HttpStatus.INTERNAL_SERVER_ERROR)
   @ExceptionHandler(RuntimeException.class)
   public ProblemDetail handle(RuntimeException exception, WebRequest webRequest) {
-    log.warn(exception);
-    var problemDetail = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
-    problemDetail.setDetail(exception.getMessage());
-    problemDetail.setProperty(TIMESTAMP_PROPERTY, clock.instant());
-    return problemDetail;
+    failureLogger.warn(Failure.UNEXPECTED, exception);
+    return problemDetailFactory.forUnexpected(exception);
   }
 
 }
@@ -0,0 +1,14 @@
+package com.github.alessandrobagnoli.taxcodeconverter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import org.springframework.http.ProblemDetail;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse<T>(
+    int index,
+    T result,
+    ProblemDetail error) {
+
+}
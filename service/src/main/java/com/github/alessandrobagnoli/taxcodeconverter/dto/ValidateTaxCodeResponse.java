@@ -0,0 +1,12 @@
+package com.github.alessandrobagnoli.taxcodeconverter.dto;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import lombok.Builder;
+
+@Builder
+public record ValidateTaxCodeResponse(
+    String taxCode,
+    boolean valid,
+    TaxCodeValidity validity) {
+
+}
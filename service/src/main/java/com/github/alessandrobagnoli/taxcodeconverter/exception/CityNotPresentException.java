@@ -1,8 +0,0 @@
-package com.github.alessandrobagnoli.taxcodeconverter.exception;
-
-import lombok.experimental.StandardException;
-
-@StandardException
-public class CityNotPresentException extends RuntimeException {
-
-}
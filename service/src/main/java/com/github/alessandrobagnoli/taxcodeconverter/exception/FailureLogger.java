@@ -0,0 +1,75 @@
+package com.github.alessandrobagnoli.taxcodeconverter.exception;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the failures answered to the clients, at most {@value #MAX_WARNINGS_PER_WINDOW} warnings per failure type every
+ * {@value #WINDOW_MILLIS} ms: a client sending dirty data must not flood the logs. The warnings that are left out are
+ * counted and reported by the next one of the same type, while every failure is counted by
+ * {@link com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics}. Only the unexpected failures are
+ * logged with their stack trace.
+ */
+@Log4j2
+@Component
+public class FailureLogger {
+
+  static final int MAX_WARNINGS_PER_WINDOW = 10;
+  static final long WINDOW_MILLIS = 10_000;
+
+  private final Clock clock;
+  private final Window[] windows = new Window[Failure.values().length];
+
+  public FailureLogger(Clock clock) {
+    this.clock = clock;
+    for (var i = 0; i < windows.length; i++) {
+      windows[i] = new Window();
+    }
+  }
+
+  /**
+   * @return whether the warning was logged, i.e. it was not left out by the rate limit
+   */
+  public boolean warn(Failure failure, RuntimeException exception) {
+    var window = windows[failure.ordinal()];
+    if (!window.tryAcquire(clock.millis())) {
+      return false;
+    }
+    var suppressed = window.suppressed.sumThenReset();
+    if (failure == Failure.UNEXPECTED) {
+      log.warn("{} failure ({} similar warnings suppressed)", failure, suppressed, exception);
+    } else {
+      log.warn("{} failure: {} ({} similar warnings suppressed)", failure, exception.getMessage(), suppressed);
+    }
+    return true;
+  }
+
+  // Lock-free and approximate: a window may let a few more warnings through when it rolls over under contention
+  private static final class Window {
+
+    private final AtomicLong start = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger permits = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    boolean tryAcquire(long now) {
+      var current = start.get();
+      if ((current == Long.MIN_VALUE || now - current >= WINDOW_MILLIS) && start.compareAndSet(current, now)) {
+        permits.set(MAX_WARNINGS_PER_WINDOW);
+      }
+      // the read first keeps a flood of failures from contending on writes once the permits are over
+      if (permits.get() > 0 && permits.getAndDecrement() > 0) {
+        return true;
+      }
+      suppressed.increment();
+      return false;
+    }
+
+  }
+
+}
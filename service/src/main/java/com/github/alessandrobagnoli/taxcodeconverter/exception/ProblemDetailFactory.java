@@ -0,0 +1,88 @@
+package com.github.alessandrobagnoli.taxcodeconverter.exception;
+
+import java.time.Clock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.InvalidBatchException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProblemDetailFactory {
+
+  private static final String TIMESTAMP_PROPERTY = "timestamp";
+
+  private final Clock clock;
+  private final TaxCodeMetrics taxCodeMetrics;
+
+  public ProblemDetail from(RuntimeException exception) {
+    if (exception instanceof ConstraintViolationException constraintViolationException) {
+      return forConstraintViolation(constraintViolationException);
+    }
+    if (exception instanceof RequestValidationException requestValidationException) {
+      return forRequestValidation(requestValidationException);
+    }
+    if (exception instanceof CityNotPresentException cityNotPresentException) {
+      return forCityNotPresent(cityNotPresentException);
+    }
+    if (exception instanceof InvalidBatchException invalidBatchException) {
+      return forInvalidBatch(invalidBatchException);
+    }
+    return forUnexpected(exception);
+  }
+
+  public ProblemDetail forConstraintViolation(ConstraintViolationException exception) {
+    taxCodeMetrics.increment(Failure.VALIDATION);
+    return problemDetail(HttpStatus.BAD_REQUEST, String.join(",", exception.getConstraintViolations().stream()
+        .map(ConstraintViolation::getMessage)
+        .toList()));
+  }
+
+  public ProblemDetail forRequestValidation(RequestValidationException exception) {
+    taxCodeMetrics.increment(Failure.VALIDATION);
+    return problemDetail(HttpStatus.BAD_REQUEST, String.join(",", exception.getViolations()));
+  }
+
+  public ProblemDetail forCityNotPresent(CityNotPresentException exception) {
+    taxCodeMetrics.increment(Failure.CITY_NOT_PRESENT);
+    return problemDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+  }
+
+  public ProblemDetail forInvalidBatch(InvalidBatchException exception) {
+    taxCodeMetrics.increment(Failure.VALIDATION);
+    return problemDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+  }
+
+  // a record of a stream that is not valid JSON or does not match the request, e.g. with a malformed date
+  public ProblemDetail forUnreadable(JsonProcessingException exception) {
+    taxCodeMetrics.increment(Failure.VALIDATION);
+    return problemDetail(HttpStatus.BAD_REQUEST, "Unreadable record: " + exception.getOriginalMessage());
+  }
+
+  // a record of a stream longer than the limit, which ends the stream since the rest of the line is not read
+  public ProblemDetail forOversizedRecord(int maxLength) {
+    taxCodeMetrics.increment(Failure.VALIDATION);
+    return problemDetail(HttpStatus.PAYLOAD_TOO_LARGE, "Record longer than " + maxLength + " characters");
+  }
+
+  public ProblemDetail forUnexpected(RuntimeException exception) {
+    taxCodeMetrics.increment(Failure.UNEXPECTED);
+    return problemDetail(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage());
+  }
+
+  private ProblemDetail problemDetail(HttpStatus status, String detail) {
+    var problemDetail = ProblemDetail.forStatus(status);
+    problemDetail.setDetail(detail);
+    problemDetail.setProperty(TIMESTAMP_PROPERTY, clock.instant());
+    return problemDetail;
+  }
+
+}
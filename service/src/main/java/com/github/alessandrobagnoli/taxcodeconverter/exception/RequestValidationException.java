@@ -0,0 +1,29 @@
+package com.github.alessandrobagnoli.taxcodeconverter.exception;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Thrown by {@link com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl.DirectRequestValidation} when
+ * a request is not valid, the counterpart of the {@link jakarta.validation.ConstraintViolationException} of the method
+ * validation. Like {@link com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException} it is an
+ * expected answer, so it carries no stack trace.
+ */
+@Getter
+public class RequestValidationException extends RuntimeException {
+
+  // the messages of the violations, as the ones of the ConstraintViolations
+  private final List<String> violations;
+
+  public RequestValidationException(List<String> violations) {
+    super(null, null, false, false);
+    this.violations = violations;
+  }
+
+  @Override
+  public String getMessage() {
+    return String.join(",", violations);
+  }
+
+}
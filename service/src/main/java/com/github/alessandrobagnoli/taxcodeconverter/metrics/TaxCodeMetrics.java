@@ -0,0 +1,66 @@
+package com.github.alessandrobagnoli.taxcodeconverter.metrics;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.PhaseRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the phases of a conversion and counts its failures. Every meter is registered once up front and looked up by
+ * ordinal, so recording on the hot path costs a {@link System#nanoTime()} and a histogram update, without tag lookups
+ * or allocations.
+ */
+@Component
+public class TaxCodeMetrics implements PhaseRecorder {
+
+  static final String PHASE_TIMER = "taxcode.phase";
+  static final String FAILURE_COUNTER = "taxcode.failures";
+
+  private final Timer[] phases = new Timer[Phase.values().length];
+  private final Counter[] failures = new Counter[Failure.values().length];
+
+  public TaxCodeMetrics(MeterRegistry meterRegistry) {
+    for (var phase : Phase.values()) {
+      phases[phase.ordinal()] = Timer.builder(PHASE_TIMER)
+          .description("Time spent in a phase of a tax code conversion")
+          .tag("phase", tagValue(phase))
+          .publishPercentileHistogram()
+          .minimumExpectedValue(Duration.ofNanos(100))
+          .maximumExpectedValue(Duration.ofMillis(100))
+          .register(meterRegistry);
+    }
+    for (var failure : Failure.values()) {
+      failures[failure.ordinal()] = Counter.builder(FAILURE_COUNTER)
+          .description("Tax code conversions that failed")
+          .tag("type", tagValue(failure))
+          .register(meterRegistry);
+    }
+  }
+
+  @Override
+  public long record(Phase phase, long startNanos) {
+    var endNanos = System.nanoTime();
+    phases[phase.ordinal()].record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+    return endNanos;
+  }
+
+  public void increment(Failure failure) {
+    failures[failure.ordinal()].increment();
+  }
+
+  private static String tagValue(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+
+  public enum Failure {
+    VALIDATION,
+    CITY_NOT_PRESENT,
+    UNEXPECTED
+  }
+
+}
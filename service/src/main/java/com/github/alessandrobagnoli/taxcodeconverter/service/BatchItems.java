@@ -0,0 +1,29 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.util.function.Function;
+
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchItems {
+
+  // Converts a single item of a batch or of a stream, turning a failure into the ProblemDetail of that item only
+  public static <I, O> BatchItemResponse<O> convert(int index, I request, Function<I, O> conversion,
+      ProblemDetailFactory problemDetailFactory) {
+    try {
+      return BatchItemResponse.<O>builder()
+          .index(index)
+          .result(conversion.apply(request))
+          .build();
+    } catch (RuntimeException e) {
+      return BatchItemResponse.<O>builder()
+          .index(index)
+          .error(problemDetailFactory.from(e))
+          .build();
+    }
+  }
+
+}
@@ -0,0 +1,30 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CitySearchService {
+
+  static final int MAX_LIMIT = 50;
+
+  private final CityRegistry cityRegistry;
+  private final Clock clock;
+
+  /**
+   * Searches the cities of the dataset valid today whose name starts with the given prefix.
+   *
+   * @param limit - the maximum number of cities returned, capped to {@value #MAX_LIMIT}
+   */
+  public List<CityResponse> autocomplete(String prefix, String province, int limit) {
+    return cityRegistry.findByPrefix(LocalDate.now(clock), prefix, province, Math.min(limit, MAX_LIMIT));
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts whole batches of requests, splitting the large ones across the cores of the {@code batchPool}. Every item
+ * goes through {@link TaxCodeConverterService} exactly as a single request would, and a failing item is reported
+ * with its own {@link org.springframework.http.ProblemDetail} instead of failing the whole batch.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaxCodeBatchService {
+
+  static final int SPLIT_THRESHOLD = 256;
+
+  private final TaxCodeConverterService taxCodeConverterService;
+  private final ProblemDetailFactory problemDetailFactory;
+  private final ForkJoinPool batchPool;
+
+  public List<BatchItemResponse<CalculatePersonDataResponse>> fromTaxCodesToPersons(
+      List<CalculatePersonDataRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromTaxCodeToPerson);
+  }
+
+  public List<BatchItemResponse<CalculateTaxCodeResponse>> fromPersonsToTaxCodes(
+      List<CalculateTaxCodeRequest> requests) {
+    return convert(requests, taxCodeConverterService::fromPersonToTaxCode);
+  }
+
+  private <I, O> List<BatchItemResponse<O>> convert(List<I> requests, Function<I, O> conversion) {
+    @SuppressWarnings("unchecked")
+    BatchItemResponse<O>[] responses = new BatchItemResponse[requests.size()];
+    var task = new ConversionTask<>(requests, conversion, problemDetailFactory, responses, 0, requests.size());
+    if (requests.size() <= SPLIT_THRESHOLD) {
+      task.compute();
+    } else {
+      batchPool.invoke(task);
+    }
+    return Arrays.asList(responses);
+  }
+
+  @RequiredArgsConstructor
+  private static class ConversionTask<I, O> extends RecursiveAction {
+
+    private final List<I> requests;
+    private final Function<I, O> conversion;
+    private final ProblemDetailFactory problemDetailFactory;
+    private final BatchItemResponse<O>[] responses;
+    private final int from;
+    private final int to;
+
+    @Override
+    protected void compute() {
+      if (to - from <= SPLIT_THRESHOLD) {
+        for (var i = from; i < to; i++) {
+          responses[i] = BatchItems.convert(i, requests.get(i), conversion, problemDetailFactory);
+        }
+        return;
+      }
+      var middle = (from + to) >>> 1;
+      invokeAll(
+          new ConversionTask<>(requests, conversion, problemDetailFactory, responses, from, middle),
+          new ConversionTask<>(requests, conversion, problemDetailFactory, responses, middle, to));
+    }
+
+  }
+
+}
@@ -0,0 +1,42 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.ArrowTaxCodeConverter;
+import lombok.RequiredArgsConstructor;
+import org.apache.arrow.memory.BufferAllocator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts Arrow IPC streams batch by batch with {@link ArrowTaxCodeConverter}. Every request gets its own child of
+ * the {@code arrowAllocator}, which bounds the memory it can take and checks, once closed, that none of it leaked.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaxCodeColumnarService {
+
+  static final long REQUEST_ALLOCATION_LIMIT = 256L * 1024 * 1024;
+
+  private final ArrowTaxCodeConverter arrowTaxCodeConverter;
+  private final ObjectProvider<BufferAllocator> arrowAllocator;
+
+  public void fromTaxCodesToPersons(InputStream requests, OutputStream responses) throws IOException {
+    try (var allocator = newRequestAllocator()) {
+      arrowTaxCodeConverter.reverseTaxCodes(requests, responses, allocator);
+    }
+  }
+
+  public void fromPersonsToTaxCodes(InputStream requests, OutputStream responses) throws IOException {
+    try (var allocator = newRequestAllocator()) {
+      arrowTaxCodeConverter.calculateTaxCodes(requests, responses, allocator);
+    }
+  }
+
+  private BufferAllocator newRequestAllocator() {
+    return arrowAllocator.getObject().newChildAllocator("columnar-request", 0, REQUEST_ALLOCATION_LIMIT);
+  }
+
+}
@@ -1,30 +1,66 @@
 package com.github.alessandrobagnoli.taxcodeconverter.service;
 
+import java.util.List;
+import java.util.Optional;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.RequestValidation;
 import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidCalculatePersonDataRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidCalculateTaxCodeRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * The parameters are validated either by the method validation proxy or by {@link RequestValidation} called first
+ * thing in each conversion, see {@link com.github.alessandrobagnoli.taxcodeconverter.config.ValidationConfig}.
+ */
 @Service
 @Validated
 @RequiredArgsConstructor
 public class TaxCodeConverterService {
 
   private final TaxCodeCalculator taxCodeCalculator;
+  private final RequestValidation requestValidation;
 
   public CalculatePersonDataResponse fromTaxCodeToPerson(
       @ValidCalculatePersonDataRequest CalculatePersonDataRequest calculatePersonDataRequest) {
+    requestValidation.validate(calculatePersonDataRequest);
     var taxCode = calculatePersonDataRequest.taxCode();
     return taxCodeCalculator.reverseTaxCode(taxCode);
   }
 
+  /**
+   * The person data of a tax code are a pure function of the code and of
+   * {@link TaxCodeCalculator#reverseTaxCodeVersion()}, so together they make a strong entity tag. Invalid codes get
+   * none, since they are answered with an error.
+   */
+  public Optional<String> personDataETag(String taxCode) {
+    if (!TaxCodeValidator.isValid(taxCode)) {
+      return Optional.empty();
+    }
+    return Optional.of(taxCode + "-" + taxCodeCalculator.reverseTaxCodeVersion());
+  }
+
+  /**
+   * Whether one of the entity tags of an {@code If-None-Match} header, as parsed by
+   * {@link org.springframework.http.HttpHeaders#getIfNoneMatch()}, matches the given one with the weak comparison
+   * required for a GET. It needs neither the decoding nor the city lookup, so a revalidation is answered before them.
+   */
+  public static boolean isNotModified(String eTag, List<String> ifNoneMatch) {
+    var quoted = "\"" + eTag + "\"";
+    return ifNoneMatch.stream()
+        .anyMatch(tag -> tag.equals("*") || tag.equals(quoted) || tag.equals("W/" + quoted));
+  }
+
   public CalculateTaxCodeResponse fromPersonToTaxCode(
       @ValidCalculateTaxCodeRequest CalculateTaxCodeRequest calculateTaxCodeRequest) {
+    requestValidation.validate(calculateTaxCodeRequest);
     var taxCode = taxCodeCalculator.calculateTaxCode(calculateTaxCodeRequest);
     return CalculateTaxCodeResponse.builder()
         .taxCode(taxCode)
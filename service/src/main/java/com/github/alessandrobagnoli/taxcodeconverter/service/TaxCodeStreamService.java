@@ -0,0 +1,126 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts newline-delimited JSON streams one record at a time: a request is parsed only after the response to the
+ * previous one has been handed to the output stream, so a slow reader slows down the parsing as well and the heap
+ * never holds more than one line, whatever the size of the payload. A line that cannot be parsed gets an error item
+ * of its own and the stream goes on from the next line, since the status of the response is already committed. A line
+ * longer than {@link #MAX_LINE_LENGTH} gets an error item as well, but ends the stream: it is not buffered whole, so
+ * its end is never looked for.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaxCodeStreamService {
+
+  // far above the longest valid record, which takes a few hundred chars
+  static final int MAX_LINE_LENGTH = 16 * 1024;
+
+  private static final char LINE_SEPARATOR = '\n';
+
+  private final TaxCodeConverterService taxCodeConverterService;
+  private final ProblemDetailFactory problemDetailFactory;
+  private final ObjectMapper objectMapper;
+
+  public void fromTaxCodesToPersons(InputStream requests, OutputStream responses) throws IOException {
+    convert(requests, responses, CalculatePersonDataRequest.class, taxCodeConverterService::fromTaxCodeToPerson);
+  }
+
+  public void fromPersonsToTaxCodes(InputStream requests, OutputStream responses) throws IOException {
+    convert(requests, responses, CalculateTaxCodeRequest.class, taxCodeConverterService::fromPersonToTaxCode);
+  }
+
+  private <I, O> void convert(InputStream requests, OutputStream responses, Class<I> requestType,
+      Function<I, O> conversion) throws IOException {
+    var reader = objectMapper.readerFor(requestType);
+    var writer = objectMapper.writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (var lines = new BufferedReader(new InputStreamReader(requests, StandardCharsets.UTF_8));
+        var generator = objectMapper.createGenerator(responses)) {
+      generator.setRootValueSeparator(null);
+      var index = 0;
+      var line = new StringBuilder();
+      while (readLine(lines, line)) {
+        if (line.length() > MAX_LINE_LENGTH) {
+          write(writer, generator, BatchItemResponse.<O>builder()
+              .index(index)
+              .error(problemDetailFactory.forOversizedRecord(MAX_LINE_LENGTH))
+              .build());
+          return;
+        }
+        var text = line.toString();
+        if (!text.isBlank()) {
+          index = convertLine(text, index, reader, conversion, writer, generator);
+        }
+      }
+    }
+  }
+
+  // Reads the next line into the builder, without its separator, and returns false at the end of the stream. It stops
+  // one char past MAX_LINE_LENGTH, so that a line without separator is never buffered whole.
+  private static boolean readLine(Reader reader, StringBuilder line) throws IOException {
+    line.setLength(0);
+    int c;
+    while ((c = reader.read()) != -1) {
+      if (c == LINE_SEPARATOR) {
+        return true;
+      }
+      line.append((char) c);
+      if (line.length() > MAX_LINE_LENGTH) {
+        return true;
+      }
+    }
+    return !line.isEmpty();
+  }
+
+  // A line normally holds a single record, but records following each other on the same line are accepted too. The
+  // rest of the line is skipped after a malformed record, since its end cannot be told apart.
+  private <I, O> int convertLine(String line, int index, ObjectReader reader, Function<I, O> conversion,
+      ObjectWriter writer, JsonGenerator generator) throws IOException {
+    var values = reader.<I>readValues(line);
+    while (true) {
+      I request;
+      try {
+        if (!values.hasNextValue()) {
+          return index;
+        }
+        request = values.nextValue();
+      } catch (JsonProcessingException e) {
+        write(writer, generator, BatchItemResponse.<O>builder()
+            .index(index)
+            .error(problemDetailFactory.forUnreadable(e))
+            .build());
+        return index + 1;
+      }
+      write(writer, generator, BatchItems.convert(index++, request, conversion, problemDetailFactory));
+    }
+  }
+
+  private static void write(ObjectWriter writer, JsonGenerator generator, BatchItemResponse<?> item)
+      throws IOException {
+    writer.writeValue(generator, item);
+    generator.writeRaw(LINE_SEPARATOR);
+  }
+
+}
@@ -0,0 +1,68 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.PackedTaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeValidator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TaxCodeValidationService {
+
+  public ValidateTaxCodeResponse validate(CalculatePersonDataRequest calculatePersonDataRequest) {
+    var taxCode = calculatePersonDataRequest.taxCode();
+    return response(taxCode, TaxCodeValidator.validate(taxCode));
+  }
+
+  /**
+   * Validates the codes of 16 chars packed together by {@link PackedTaxCodeValidator}, the others, missing or numeric
+   * ones included, one by one.
+   */
+  public List<ValidateTaxCodeResponse> validateAll(List<CalculatePersonDataRequest> calculatePersonDataRequests) {
+    var validities = new TaxCodeValidity[calculatePersonDataRequests.size()];
+    var packed = new byte[validities.length * PackedTaxCodeValidator.CODE_BYTES];
+    var packedIndexes = new int[validities.length];
+    var packedCount = 0;
+    for (var i = 0; i < validities.length; i++) {
+      var taxCode = calculatePersonDataRequests.get(i).taxCode();
+      if (taxCode == null || taxCode.length() != PackedTaxCodeValidator.CODE_BYTES) {
+        validities[i] = TaxCodeValidator.validate(taxCode);
+        continue;
+      }
+      pack(taxCode, packed, packedCount * PackedTaxCodeValidator.CODE_BYTES);
+      packedIndexes[packedCount++] = i;
+    }
+    var packedValidities = PackedTaxCodeValidator.validate(ByteBuffer.wrap(packed, 0,
+        packedCount * PackedTaxCodeValidator.CODE_BYTES));
+    for (var i = 0; i < packedCount; i++) {
+      validities[packedIndexes[i]] = packedValidities[i];
+    }
+    var responses = new ArrayList<ValidateTaxCodeResponse>(validities.length);
+    for (var i = 0; i < validities.length; i++) {
+      responses.add(response(calculatePersonDataRequests.get(i).taxCode(), validities[i]));
+    }
+    return responses;
+  }
+
+  // the chars outside of ASCII are packed as a byte no tax code can contain
+  private static void pack(String taxCode, byte[] packed, int offset) {
+    for (var i = 0; i < PackedTaxCodeValidator.CODE_BYTES; i++) {
+      var c = taxCode.charAt(i);
+      packed[offset + i] = c < 0x80 ? (byte) c : (byte) 0xFF;
+    }
+  }
+
+  private static ValidateTaxCodeResponse response(String taxCode, TaxCodeValidity validity) {
+    return ValidateTaxCodeResponse.builder()
+        .taxCode(taxCode)
+        .valid(validity == TaxCodeValidity.VALID)
+        .validity(validity)
+        .build();
+  }
+
+}
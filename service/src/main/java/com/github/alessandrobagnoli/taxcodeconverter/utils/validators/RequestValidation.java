@@ -0,0 +1,17 @@
+package com.github.alessandrobagnoli.taxcodeconverter.utils.validators;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+
+/**
+ * Validates the requests of {@link com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService}
+ * before they are converted. The implementation is chosen by the {@code taxcode.validation.mode} property, see
+ * {@link com.github.alessandrobagnoli.taxcodeconverter.config.ValidationConfig}.
+ */
+public interface RequestValidation {
+
+  void validate(CalculatePersonDataRequest request);
+
+  void validate(CalculateTaxCodeRequest request);
+
+}
@@ -11,6 +11,7 @@ public interface RequestValidator {
   String REQUIRED_MSG = "missing required property %s";
   String INVALID_MSG = "invalid value for property %s";
   String INVALID_DATE = "invalid date for property %s: it must be in the past";
+  String NOT_WITH_COUNTRY_MSG = "property %s must not be set together with country";
 
   // Adds a ConstraintViolation (containing details about the errors) to the ConstraintValidatorContext
   // The violations will be processed in the ExceptionHandlerInterceptor
@@ -3,8 +3,10 @@ package com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl;
 import java.time.Clock;
 import java.util.ArrayList;
 
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.core.PhaseRecorder.Phase;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
 import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.RequestValidator;
 import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidCalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidationResult;
@@ -18,21 +20,30 @@ public class CalculateTaxCodeRequestValidator implements
     ConstraintValidator<ValidCalculateTaxCodeRequest, CalculateTaxCodeRequest>, RequestValidator {
 
   private final Clock clock;
+  private final TaxCodeMetrics taxCodeMetrics;
 
   @Override
   public boolean isValid(CalculateTaxCodeRequest r, ConstraintValidatorContext ctx) {
+    var start = System.nanoTime();
     var vr = new ValidationResult(new ArrayList<>());
 
     test("name", StringUtils::isNotBlank, r.name(), REQUIRED_MSG, vr);
     test("surname", StringUtils::isNotBlank, r.surname(), REQUIRED_MSG, vr);
-    test("birthPlace", StringUtils::isNotBlank, r.birthPlace(), REQUIRED_MSG, vr);
-    test("province", StringUtils::isNotBlank, r.province(), REQUIRED_MSG, vr);
+    // people born abroad are identified by their country alone, all the others by birth place and province
+    if (StringUtils.isBlank(r.country())) {
+      test("birthPlace", StringUtils::isNotBlank, r.birthPlace(), REQUIRED_MSG, vr);
+      test("province", StringUtils::isNotBlank, r.province(), REQUIRED_MSG, vr);
+    } else {
+      test("birthPlace", StringUtils::isBlank, r.birthPlace(), NOT_WITH_COUNTRY_MSG, vr);
+      test("province", StringUtils::isBlank, r.province(), NOT_WITH_COUNTRY_MSG, vr);
+    }
     test("dateOfBirth",
         localDate -> localDate != null && localDate.isBefore(clock.instant().atZone(clock.getZone()).toLocalDate()),
         r.dateOfBirth(), INVALID_DATE, vr);
     test("gender", gender -> gender != null && gender != Gender.UNSPECIFIED, r.gender(), INVALID_MSG, vr);
 
     setConstraintValidatorContext(ctx, vr);
+    taxCodeMetrics.record(Phase.VALIDATION, start);
     return vr.isValid();
   }
 }
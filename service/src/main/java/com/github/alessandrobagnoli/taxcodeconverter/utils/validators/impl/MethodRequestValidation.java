@@ -0,0 +1,25 @@
+package com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.RequestValidation;
+
+/**
+ * Leaves the validation to the method validation proxy of the service, which checks the
+ * {@link com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidCalculatePersonDataRequest} and
+ * {@link com.github.alessandrobagnoli.taxcodeconverter.utils.validators.ValidCalculateTaxCodeRequest} parameters
+ * before the call gets here.
+ */
+public class MethodRequestValidation implements RequestValidation {
+
+  @Override
+  public void validate(CalculatePersonDataRequest request) {
+    // already validated by the proxy
+  }
+
+  @Override
+  public void validate(CalculateTaxCodeRequest request) {
+    // already validated by the proxy
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.github.alessandrobagnoli.taxcodeconverter.actuator;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry.DatasetVersion;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CityRegistryEndpointTest {
+
+  private static final Path DATASET_DIRECTORY = Path.of("datasets").toAbsolutePath();
+
+  @Mock
+  private CityRegistry cityRegistry;
+
+  private CityRegistryEndpoint underTest;
+
+  @BeforeEach
+  void setUp() {
+    underTest = new CityRegistryEndpoint(cityRegistry, Path.of("datasets"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(cityRegistry);
+  }
+
+  @Test
+  void versionsShouldSucceed() {
+    // given
+    var expected = List.of(DatasetVersion.builder()
+        .version("version")
+        .build());
+    given(cityRegistry.versions()).willReturn(expected);
+
+    // when
+    var actual = underTest.versions();
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldResolveTheFileInTheDatasetDirectory() {
+    // given
+    var validFrom = LocalDate.of(2024, 1, 1);
+    var expected = DatasetVersion.builder()
+        .version("version")
+        .validFrom(validFrom)
+        .build();
+    given(cityRegistry.load(DATASET_DIRECTORY.resolve("2024/cities.csv"), validFrom)).willReturn(expected);
+
+    // when
+    var actual = underTest.load("2024/cities.csv", validFrom);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldDefaultToAnyDate() {
+    // given
+    var expected = DatasetVersion.builder()
+        .version("version")
+        .build();
+    given(cityRegistry.load(DATASET_DIRECTORY.resolve("cities.bin"), LocalDate.MIN)).willReturn(expected);
+
+    // when
+    var actual = underTest.load("cities.bin", null);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void loadShouldFailWhenFileIsOutsideOfTheDatasetDirectory() {
+    // when
+    var actual = assertThrows(InvalidEndpointRequestException.class, () -> underTest.load("../secret.csv", null));
+
+    // then
+    assertThat(actual).hasMessage("The file ../secret.csv is outside of the dataset directory");
+  }
+
+  @SneakyThrows
+  @Test
+  void loadShouldFailWhenDatasetIsInvalid() {
+    // given
+    given(cityRegistry.load(DATASET_DIRECTORY.resolve("cities.csv"), LocalDate.MIN))
+        .willThrow(new IllegalStateException("Invalid cities csv file"));
+
+    // when
+    var actual = assertThrows(InvalidEndpointRequestException.class, () -> underTest.load("cities.csv", null));
+
+    // then
+    assertThat(actual).hasMessage("Invalid cities csv file");
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.github.alessandrobagnoli.taxcodeconverter.config;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatConfigTest {
+
+  private final ObjectMapper underTest = WireFormatConfig.cborMapper();
+
+  @SneakyThrows
+  @Test
+  void shouldWriteDatesAsEpochDaysAndGenderAsValue() {
+    // given
+    var input = CalculateTaxCodeRequest.builder()
+        .gender(Gender.FEMALE)
+        .name("Alessandro")
+        .surname("Bagnoli")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .birthPlace("Rimini")
+        .province("RN")
+        .build();
+
+    // when
+    var actual = underTest.readTree(underTest.writeValueAsBytes(input));
+
+    // then
+    assertThat(actual.get("dateOfBirth").isInt()).isTrue();
+    assertThat(actual.get("dateOfBirth").intValue()).isEqualTo(LocalDate.of(1993, 9, 19).toEpochDay());
+    assertThat(actual.get("gender").isInt()).isTrue();
+    assertThat(actual.get("gender").intValue()).isEqualTo(Gender.FEMALE.getValue());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldRoundTripAndBeSmallerThanJson() {
+    // given
+    var input = CalculateTaxCodeRequest.builder()
+        .gender(Gender.MALE)
+        .name("Alessandro")
+        .surname("Bagnoli")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .birthPlace("Rimini")
+        .province("RN")
+        .build();
+    var json = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build()
+        .writeValueAsBytes(input);
+
+    // when
+    var actual = underTest.writeValueAsBytes(input);
+
+    // then
+    assertThat(underTest.readValue(actual, CalculateTaxCodeRequest.class)).isEqualTo(input);
+    assertThat(actual).hasSizeLessThan(json.length);
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.github.alessandrobagnoli.taxcodeconverter.controller;
+
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.CitySearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CityControllerTest {
+
+  @Mock
+  private CitySearchService citySearchService;
+
+  @InjectMocks
+  private CityController underTest;
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(citySearchService);
+  }
+
+  @Test
+  void autocompleteShouldSucceed() {
+    // given
+    var expected = List.of(CityResponse.builder()
+        .name("RIMINI")
+        .province("RN")
+        .code("H294")
+        .build());
+    given(citySearchService.autocomplete("rim", "RN", 10)).willReturn(expected);
+
+    // when
+    var actual = underTest.autocomplete("rim", "RN", 10);
+
+    // then
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+}
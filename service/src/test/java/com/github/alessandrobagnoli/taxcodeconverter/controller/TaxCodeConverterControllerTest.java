@@ -1,19 +1,39 @@
 package com.github.alessandrobagnoli.taxcodeconverter.controller;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.alessandrobagnoli.taxcodeconverter.arrow.ArrowTaxCodeConverter;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeBatchService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeColumnarService;
 import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeStreamService;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeValidationService;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,12 +42,25 @@ class TaxCodeConverterControllerTest {
   @Mock
   private TaxCodeConverterService taxCodeConverterService;
 
+  @Mock
+  private TaxCodeBatchService taxCodeBatchService;
+
+  @Mock
+  private TaxCodeStreamService taxCodeStreamService;
+
+  @Mock
+  private TaxCodeColumnarService taxCodeColumnarService;
+
+  @Mock
+  private TaxCodeValidationService taxCodeValidationService;
+
   @InjectMocks
   private TaxCodeConverterController underTest;
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(taxCodeConverterService);
+    verifyNoMoreInteractions(taxCodeConverterService, taxCodeBatchService, taxCodeStreamService,
+        taxCodeColumnarService, taxCodeValidationService);
   }
 
   @Test
@@ -46,6 +79,61 @@ class TaxCodeConverterControllerTest {
     assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
   }
 
+  @Test
+  void getPersonDataShouldSucceed() {
+    // given
+    var taxCode = "BGNLSN93P19H294L";
+    var expected = CalculatePersonDataResponse.builder()
+        .name("someName")
+        .build();
+    given(taxCodeConverterService.personDataETag(taxCode)).willReturn(Optional.of("eTag"));
+    given(taxCodeConverterService.fromTaxCodeToPerson(CalculatePersonDataRequest.builder()
+        .taxCode(taxCode)
+        .build())).willReturn(expected);
+
+    // when
+    var actual = underTest.getPersonData(taxCode, new HttpHeaders());
+
+    // then
+    assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(actual.getHeaders().getETag()).isEqualTo("\"eTag\"");
+    assertThat(actual.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+    assertThat(actual.getBody()).isEqualTo(expected);
+  }
+
+  @Test
+  void getPersonDataShouldAnswerNotModifiedWhenETagMatches() {
+    // given
+    var taxCode = "BGNLSN93P19H294L";
+    var headers = new HttpHeaders();
+    headers.setIfNoneMatch("W/\"eTag\"");
+    given(taxCodeConverterService.personDataETag(taxCode)).willReturn(Optional.of("eTag"));
+
+    // when
+    var actual = underTest.getPersonData(taxCode, headers);
+
+    // then
+    assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(actual.getHeaders().getETag()).isEqualTo("\"eTag\"");
+    assertThat(actual.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+    assertThat(actual.getBody()).isNull();
+  }
+
+  @Test
+  void getPersonDataShouldNotSetETagWhenCityNotPresent() {
+    // given
+    var taxCode = "BGNLSN93P19H295P";
+    var exception = new CityNotPresentException("The city with code H295 does not exist");
+    given(taxCodeConverterService.personDataETag(taxCode)).willReturn(Optional.of("eTag"));
+    given(taxCodeConverterService.fromTaxCodeToPerson(CalculatePersonDataRequest.builder()
+        .taxCode(taxCode)
+        .build())).willThrow(exception);
+
+    // when
+    // then
+    assertThatThrownBy(() -> underTest.getPersonData(taxCode, new HttpHeaders())).isSameAs(exception);
+  }
+
   @Test
   void calculateTaxCodeFromPersonShouldSucceed() {
     // given
@@ -61,4 +149,132 @@ class TaxCodeConverterControllerTest {
     // then
     assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
   }
-}
\ No newline at end of file
+
+  @Test
+  void validateTaxCodeShouldSucceed() {
+    // given
+    var input = CalculatePersonDataRequest.builder().build();
+    var expected = ValidateTaxCodeResponse.builder()
+        .validity(TaxCodeValidity.MISSING)
+        .build();
+    given(taxCodeValidationService.validate(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.validateTaxCode(input);
+
+    // then
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void batchValidateTaxCodesShouldSucceed() {
+    // given
+    var input = List.of(CalculatePersonDataRequest.builder().build());
+    var expected = List.of(ValidateTaxCodeResponse.builder()
+        .validity(TaxCodeValidity.MISSING)
+        .build());
+    given(taxCodeValidationService.validateAll(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.batchValidateTaxCodes(input);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void batchCalculatePersonDataShouldSucceed() {
+    // given
+    var input = List.of(CalculatePersonDataRequest.builder().build());
+    var expected = List.of(BatchItemResponse.<CalculatePersonDataResponse>builder()
+        .result(CalculatePersonDataResponse.builder()
+            .name("someName")
+            .build())
+        .build());
+    given(taxCodeBatchService.fromTaxCodesToPersons(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.batchCalculatePersonData(input);
+
+    // then
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void batchCalculateTaxCodeFromPersonsShouldSucceed() {
+    // given
+    var input = List.of(CalculateTaxCodeRequest.builder().build());
+    var expected = List.of(BatchItemResponse.<CalculateTaxCodeResponse>builder()
+        .result(CalculateTaxCodeResponse.builder()
+            .taxCode("taxCode")
+            .build())
+        .build());
+    given(taxCodeBatchService.fromPersonsToTaxCodes(input)).willReturn(expected);
+
+    // when
+    var actual = underTest.batchCalculateTaxCodeFromPersons(input);
+
+    // then
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @SneakyThrows
+  @Test
+  void streamCalculatePersonDataShouldSucceed() {
+    // given
+    var input = new ByteArrayInputStream(new byte[0]);
+    var response = new MockHttpServletResponse();
+
+    // when
+    underTest.streamCalculatePersonData(input, response);
+
+    // then
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+    verify(taxCodeStreamService).fromTaxCodesToPersons(input, response.getOutputStream());
+  }
+
+  @SneakyThrows
+  @Test
+  void streamCalculateTaxCodeFromPersonsShouldSucceed() {
+    // given
+    var input = new ByteArrayInputStream(new byte[0]);
+    var response = new MockHttpServletResponse();
+
+    // when
+    underTest.streamCalculateTaxCodeFromPersons(input, response);
+
+    // then
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+    verify(taxCodeStreamService).fromPersonsToTaxCodes(input, response.getOutputStream());
+  }
+
+  @SneakyThrows
+  @Test
+  void columnarCalculatePersonDataShouldSucceed() {
+    // given
+    var input = new ByteArrayInputStream(new byte[0]);
+    var response = new MockHttpServletResponse();
+
+    // when
+    underTest.columnarCalculatePersonData(input, response);
+
+    // then
+    assertThat(response.getContentType()).isEqualTo(ArrowTaxCodeConverter.MEDIA_TYPE);
+    verify(taxCodeColumnarService).fromTaxCodesToPersons(input, response.getOutputStream());
+  }
+
+  @SneakyThrows
+  @Test
+  void columnarCalculateTaxCodeFromPersonsShouldSucceed() {
+    // given
+    var input = new ByteArrayInputStream(new byte[0]);
+    var response = new MockHttpServletResponse();
+
+    // when
+    underTest.columnarCalculateTaxCodeFromPersons(input, response);
+
+    // then
+    assertThat(response.getContentType()).isEqualTo(ArrowTaxCodeConverter.MEDIA_TYPE);
+    verify(taxCodeColumnarService).fromPersonsToTaxCodes(input, response.getOutputStream());
+  }
+}
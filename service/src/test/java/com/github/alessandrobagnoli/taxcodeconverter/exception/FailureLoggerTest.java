@@ -0,0 +1,65 @@
+package com.github.alessandrobagnoli.taxcodeconverter.exception;
+
+import java.time.Clock;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FailureLoggerTest {
+
+  @Mock
+  private Clock clock;
+
+  private FailureLogger underTest;
+
+  @BeforeEach
+  void setUp() {
+    this.underTest = new FailureLogger(clock);
+  }
+
+  @Test
+  void warnShouldBeRateLimitedPerFailureType() {
+    // given
+    var exception = new CityNotPresentException("The city with code %c%03d does not exist", 'H', 295);
+    given(clock.millis()).willReturn(1_000L);
+
+    // when
+    var logged = 0;
+    for (var i = 0; i < 3 * FailureLogger.MAX_WARNINGS_PER_WINDOW; i++) {
+      logged += underTest.warn(Failure.CITY_NOT_PRESENT, exception) ? 1 : 0;
+    }
+
+    // then
+    assertThat(logged).isEqualTo(FailureLogger.MAX_WARNINGS_PER_WINDOW);
+    assertThat(underTest.warn(Failure.UNEXPECTED, new IllegalStateException("unexpected"))).isTrue();
+  }
+
+  @Test
+  void warnShouldLogAgainInTheNextWindow() {
+    // given
+    var exception = new CityNotPresentException("The country %s does not exist", "fakeCountry");
+    given(clock.millis()).willReturn(1_000L);
+    for (var i = 0; i < FailureLogger.MAX_WARNINGS_PER_WINDOW; i++) {
+      underTest.warn(Failure.CITY_NOT_PRESENT, exception);
+    }
+    var suppressed = underTest.warn(Failure.CITY_NOT_PRESENT, exception);
+    given(clock.millis()).willReturn(1_000L + FailureLogger.WINDOW_MILLIS);
+
+    // when
+    var actual = underTest.warn(Failure.CITY_NOT_PRESENT, exception);
+
+    // then
+    assertThat(suppressed).isFalse();
+    assertThat(actual).isTrue();
+  }
+
+}
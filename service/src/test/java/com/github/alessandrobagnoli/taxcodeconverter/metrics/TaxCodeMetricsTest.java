@@ -0,0 +1,56 @@
+package com.github.alessandrobagnoli.taxcodeconverter.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.PhaseRecorder.Phase;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics.Failure;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxCodeMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private TaxCodeMetrics underTest;
+
+  @BeforeEach
+  void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.underTest = new TaxCodeMetrics(meterRegistry);
+  }
+
+  @Test
+  void recordShouldTimeThePhaseAndReturnItsEnd() {
+    // given
+    var start = System.nanoTime();
+
+    // when
+    var actual = underTest.record(Phase.CITY_LOOKUP, start);
+
+    // then
+    assertThat(actual).isGreaterThanOrEqualTo(start);
+    var timer = meterRegistry.get(TaxCodeMetrics.PHASE_TIMER).tag("phase", "city-lookup").timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(actual - start);
+    assertThat(meterRegistry.get(TaxCodeMetrics.PHASE_TIMER).tag("phase", "decoding").timer().count()).isZero();
+  }
+
+  @Test
+  void incrementShouldCountTheFailure() {
+    // given
+
+    // when
+    underTest.increment(Failure.CITY_NOT_PRESENT);
+    underTest.increment(Failure.CITY_NOT_PRESENT);
+
+    // then
+    assertThat(meterRegistry.get(TaxCodeMetrics.FAILURE_COUNTER).tag("type", "city-not-present").counter().count())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(TaxCodeMetrics.FAILURE_COUNTER).tag("type", "unexpected").counter().count())
+        .isZero();
+  }
+
+}
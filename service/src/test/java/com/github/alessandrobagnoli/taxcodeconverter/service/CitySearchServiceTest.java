@@ -0,0 +1,70 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityRegistry;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CityResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CitySearchServiceTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+  private static final LocalDate TODAY = LocalDate.of(2024, 5, 1);
+
+  @Mock
+  private CityRegistry cityRegistry;
+
+  private CitySearchService underTest;
+
+  @BeforeEach
+  void setUp() {
+    underTest = new CitySearchService(cityRegistry, CLOCK);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(cityRegistry);
+  }
+
+  @Test
+  void autocompleteShouldSearchTheDatasetValidToday() {
+    // given
+    var expected = List.of(CityResponse.builder()
+        .name("RIMINI")
+        .build());
+    given(cityRegistry.findByPrefix(TODAY, "rim", "RN", 5)).willReturn(expected);
+
+    // when
+    var actual = underTest.autocomplete("rim", "RN", 5);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void autocompleteShouldCapTheLimit() {
+    // given
+    given(cityRegistry.findByPrefix(TODAY, "r", null, CitySearchService.MAX_LIMIT)).willReturn(List.of());
+
+    // when
+    var actual = underTest.autocomplete("r", null, 1000);
+
+    // then
+    assertThat(actual).isEmpty();
+  }
+
+}
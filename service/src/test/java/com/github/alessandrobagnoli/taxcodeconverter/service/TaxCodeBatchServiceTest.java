@@ -0,0 +1,120 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TaxCodeBatchServiceTest {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  @Mock
+  private TaxCodeConverterService taxCodeConverterService;
+  @Mock
+  private ProblemDetailFactory problemDetailFactory;
+
+  private TaxCodeBatchService underTest;
+
+  @BeforeEach
+  void setUp() {
+    this.underTest = new TaxCodeBatchService(taxCodeConverterService, problemDetailFactory, POOL);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(taxCodeConverterService, problemDetailFactory);
+  }
+
+  @AfterAll
+  static void shutdown() {
+    POOL.shutdown();
+  }
+
+  @Nested
+  class FromTaxCodesToPersonsTests {
+
+    @Test
+    void shouldReportPerItemErrors() {
+      // given
+      var valid = CalculatePersonDataRequest.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var unknownCity = CalculatePersonDataRequest.builder()
+          .taxCode("BGNLSN93P19H295P")
+          .build();
+      var response = CalculatePersonDataResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var exception = new CityNotPresentException("The city with code H295 does not exist");
+      var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+      given(taxCodeConverterService.fromTaxCodeToPerson(valid)).willReturn(response);
+      given(taxCodeConverterService.fromTaxCodeToPerson(unknownCity)).willThrow(exception);
+      given(problemDetailFactory.from(exception)).willReturn(problemDetail);
+
+      // when
+      var actual = underTest.fromTaxCodesToPersons(List.of(valid, unknownCity, valid));
+
+      // then
+      assertThat(actual).containsExactly(
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(0).result(response).build(),
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(1).error(problemDetail).build(),
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(2).result(response).build());
+    }
+
+  }
+
+  @Nested
+  class FromPersonsToTaxCodesTests {
+
+    @Test
+    void shouldSplitLargeBatchesKeepingTheOrder() {
+      // given
+      var size = TaxCodeBatchService.SPLIT_THRESHOLD * 8 + 1;
+      var requests = IntStream.range(0, size)
+          .mapToObj(i -> CalculateTaxCodeRequest.builder()
+              .name(String.valueOf(i))
+              .build())
+          .toList();
+      given(taxCodeConverterService.fromPersonToTaxCode(any())).willAnswer(invocation -> CalculateTaxCodeResponse.builder()
+          .taxCode(invocation.<CalculateTaxCodeRequest>getArgument(0).name())
+          .build());
+
+      // when
+      var actual = underTest.fromPersonsToTaxCodes(requests);
+
+      // then
+      assertThat(actual).hasSize(size);
+      IntStream.range(0, size).forEach(i -> {
+        assertThat(actual.get(i).index()).isEqualTo(i);
+        assertThat(actual.get(i).result().taxCode()).isEqualTo(String.valueOf(i));
+        assertThat(actual.get(i).error()).isNull();
+      });
+    }
+
+  }
+
+}
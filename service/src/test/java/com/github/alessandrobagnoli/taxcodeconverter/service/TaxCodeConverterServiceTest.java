@@ -1,12 +1,16 @@
 package com.github.alessandrobagnoli.taxcodeconverter.service;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import com.github.alessandrobagnoli.taxcodeconverter.core.TaxCodeCalculator;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeRequest;
 import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
-import com.github.alessandrobagnoli.taxcodeconverter.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.RequestValidationException;
+import com.github.alessandrobagnoli.taxcodeconverter.utils.validators.RequestValidation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,12 +32,15 @@ class TaxCodeConverterServiceTest {
   @Mock
   private TaxCodeCalculator taxCodeCalculator;
 
+  @Mock
+  private RequestValidation requestValidation;
+
   @InjectMocks
   private TaxCodeConverterService underTest;
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(taxCodeCalculator);
+    verifyNoMoreInteractions(taxCodeCalculator, requestValidation);
   }
 
   @Nested
@@ -57,6 +67,65 @@ class TaxCodeConverterServiceTest {
 
       // then
       assertThat(actual).isEqualTo(expected);
+      verify(requestValidation).validate(input);
+    }
+
+    @Test
+    void shouldNotConvertWhenRequestIsInvalid() {
+      // given
+      var input = CalculatePersonDataRequest.builder()
+          .taxCode("BGNLSN93P19H294A")
+          .build();
+      var exception = new RequestValidationException(List.of("someViolation"));
+      willThrow(exception).given(requestValidation).validate(input);
+
+      // when
+      var actual = assertThrows(RequestValidationException.class, () -> underTest.fromTaxCodeToPerson(input));
+
+      // then
+      assertThat(actual).isSameAs(exception);
+    }
+
+  }
+
+  @Nested
+  class PersonDataETagTests {
+
+    @Test
+    void shouldDependOnTaxCodeAndReverseVersion() {
+      // given
+      given(taxCodeCalculator.reverseTaxCodeVersion()).willReturn("24+version");
+
+      // when
+      var actual = underTest.personDataETag("BGNLSN93P19H294L");
+
+      // then
+      assertThat(actual).contains("BGNLSN93P19H294L-24+version");
+    }
+
+    @Test
+    void shouldBeEmptyWhenTaxCodeIsInvalid() {
+      // given
+
+      // when
+      var actual = underTest.personDataETag("BGNLSN93P19H294A");
+
+      // then
+      assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void isNotModifiedShouldCompareTheEntityTagsWeakly() {
+      // given
+      var eTag = "BGNLSN93P19H294L-24+version";
+
+      // when
+      // then
+      assertThat(TaxCodeConverterService.isNotModified(eTag, List.of("\"" + eTag + "\""))).isTrue();
+      assertThat(TaxCodeConverterService.isNotModified(eTag, List.of("\"other\"", "W/\"" + eTag + "\""))).isTrue();
+      assertThat(TaxCodeConverterService.isNotModified(eTag, List.of("*"))).isTrue();
+      assertThat(TaxCodeConverterService.isNotModified(eTag, List.of("\"BGNLSN93P19H294L-23+version\""))).isFalse();
+      assertThat(TaxCodeConverterService.isNotModified(eTag, List.of())).isFalse();
     }
 
   }
@@ -84,6 +153,7 @@ class TaxCodeConverterServiceTest {
           .taxCode("BGNLSN93P19H294L")
           .build();
       assertThat(actual).isEqualTo(expected);
+      verify(requestValidation).validate(input);
     }
 
   }
@@ -0,0 +1,204 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.alessandrobagnoli.taxcodeconverter.core.CityNotPresentException;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculatePersonDataResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.BatchItemResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculateTaxCodeResponse;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.ProblemDetailFactory;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TaxCodeStreamServiceTest {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+      .addModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @Mock
+  private TaxCodeConverterService taxCodeConverterService;
+  @Mock
+  private ProblemDetailFactory problemDetailFactory;
+
+  private TaxCodeStreamService underTest;
+
+  @BeforeEach
+  void setUp() {
+    this.underTest = new TaxCodeStreamService(taxCodeConverterService, problemDetailFactory, objectMapper);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(taxCodeConverterService, problemDetailFactory);
+  }
+
+  @Nested
+  class FromTaxCodesToPersonsTests {
+
+    @SneakyThrows
+    @Test
+    void shouldWriteOneLinePerRequest() {
+      // given
+      var valid = CalculatePersonDataRequest.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var unknownCity = CalculatePersonDataRequest.builder()
+          .taxCode("BGNLSN93P19H295P")
+          .build();
+      var response = CalculatePersonDataResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var exception = new CityNotPresentException("The city with code H295 does not exist");
+      var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+      given(taxCodeConverterService.fromTaxCodeToPerson(valid)).willReturn(response);
+      given(taxCodeConverterService.fromTaxCodeToPerson(unknownCity)).willThrow(exception);
+      given(problemDetailFactory.from(exception)).willReturn(problemDetail);
+      var input = objectMapper.writeValueAsString(valid) + "\n"
+          + objectMapper.writeValueAsString(unknownCity) + "\n\n";
+      var output = new ByteArrayOutputStream();
+
+      // when
+      underTest.fromTaxCodesToPersons(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+      // then
+      var expected = objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(0).result(response).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculatePersonDataResponse>builder().index(1).error(problemDetail).build()) + "\n";
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+  }
+
+  @Nested
+  class FromPersonsToTaxCodesTests {
+
+    @SneakyThrows
+    @Test
+    void shouldWriteNothingForAnEmptyStream() {
+      // given
+      var output = new ByteArrayOutputStream();
+
+      // when
+      underTest.fromPersonsToTaxCodes(new ByteArrayInputStream(new byte[0]), output);
+
+      // then
+      assertThat(output.size()).isZero();
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldWriteOneLinePerRequest() {
+      // given
+      var request = CalculateTaxCodeRequest.builder()
+          .name("Alessandro")
+          .build();
+      var response = CalculateTaxCodeResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      given(taxCodeConverterService.fromPersonToTaxCode(request)).willReturn(response);
+      var input = objectMapper.writeValueAsString(request) + objectMapper.writeValueAsString(request);
+      var output = new ByteArrayOutputStream();
+
+      // when
+      underTest.fromPersonsToTaxCodes(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+      // then
+      var expected = objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(0).result(response).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(1).result(response).build()) + "\n";
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldWriteAnErrorForEachUnreadableLineAndGoOn() {
+      // given
+      var request = CalculateTaxCodeRequest.builder()
+          .name("Alessandro")
+          .build();
+      var response = CalculateTaxCodeResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Unreadable record");
+      given(taxCodeConverterService.fromPersonToTaxCode(request)).willReturn(response);
+      given(problemDetailFactory.forUnreadable(any(JsonProcessingException.class))).willReturn(problemDetail);
+      var input = objectMapper.writeValueAsString(request) + "\n"
+          + "{\"name\": \"Alessandro\", \"dateOfBirth\": \"19/09/1993\"}\n"
+          + "{\"name\": \n"
+          + objectMapper.writeValueAsString(request) + "\n";
+      var output = new ByteArrayOutputStream();
+
+      // when
+      underTest.fromPersonsToTaxCodes(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+      // then
+      var expected = objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(0).result(response).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(1).error(problemDetail).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(2).error(problemDetail).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(3).result(response).build()) + "\n";
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldEndTheStreamWithAnErrorWhenALineIsTooLong() {
+      // given
+      var request = CalculateTaxCodeRequest.builder()
+          .name("Alessandro")
+          .build();
+      var response = CalculateTaxCodeResponse.builder()
+          .taxCode("BGNLSN93P19H294L")
+          .build();
+      var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE, "Record too long");
+      given(taxCodeConverterService.fromPersonToTaxCode(request)).willReturn(response);
+      given(problemDetailFactory.forOversizedRecord(TaxCodeStreamService.MAX_LINE_LENGTH)).willReturn(problemDetail);
+      var input = objectMapper.writeValueAsString(request) + "\n"
+          + " ".repeat(TaxCodeStreamService.MAX_LINE_LENGTH) + objectMapper.writeValueAsString(request) + "\n"
+          + objectMapper.writeValueAsString(request) + "\n";
+      var output = new ByteArrayOutputStream();
+
+      // when
+      underTest.fromPersonsToTaxCodes(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+      // then
+      var expected = objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(0).result(response).build()) + "\n"
+          + objectMapper.writeValueAsString(
+          BatchItemResponse.<CalculateTaxCodeResponse>builder().index(1).error(problemDetail).build()) + "\n";
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.github.alessandrobagnoli.taxcodeconverter.service;
+
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.TaxCodeValidity;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.ValidateTaxCodeResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxCodeValidationServiceTest {
+
+  private final TaxCodeValidationService underTest = new TaxCodeValidationService();
+
+  @Test
+  void validateShouldSucceed() {
+    // given
+    var input = CalculatePersonDataRequest.builder()
+        .taxCode("BGNLSN93P19H294L")
+        .build();
+
+    // when
+    var actual = underTest.validate(input);
+
+    // then
+    assertThat(actual).isEqualTo(ValidateTaxCodeResponse.builder()
+        .taxCode("BGNLSN93P19H294L")
+        .valid(true)
+        .validity(TaxCodeValidity.VALID)
+        .build());
+  }
+
+  @Test
+  void validateAllShouldValidateEachCodeAsValidate() {
+    // given
+    var input = Stream.of("BGNLSN93P19H294L", null, "BGNLSN93P19H29QI", "12345678901", "BGNLSÈ93P19H294L",
+            "BGNLSN93P19H294A", "BGNLSN93P19H294", "bgnlsn93p19h294l")
+        .map(taxCode -> CalculatePersonDataRequest.builder()
+            .taxCode(taxCode)
+            .build())
+        .toList();
+
+    // when
+    var actual = underTest.validateAll(input);
+
+    // then
+    assertThat(actual).containsExactlyElementsOf(input.stream()
+        .map(underTest::validate)
+        .toList());
+    assertThat(actual).extracting(ValidateTaxCodeResponse::validity).containsExactly(
+        TaxCodeValidity.VALID,
+        TaxCodeValidity.MISSING,
+        TaxCodeValidity.VALID,
+        TaxCodeValidity.VALID,
+        TaxCodeValidity.INVALID_CHARACTER,
+        TaxCodeValidity.INVALID_CONTROL_CHARACTER,
+        TaxCodeValidity.INVALID_LENGTH,
+        TaxCodeValidity.INVALID_CHARACTER);
+  }
+
+}
@@ -0,0 +1,178 @@
+package com.github.alessandrobagnoli.taxcodeconverter.utils.validators.impl;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.CalculateTaxCodeRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.core.dto.Gender;
+import com.github.alessandrobagnoli.taxcodeconverter.dto.CalculatePersonDataRequest;
+import com.github.alessandrobagnoli.taxcodeconverter.exception.RequestValidationException;
+import com.github.alessandrobagnoli.taxcodeconverter.metrics.TaxCodeMetrics;
+import com.github.alessandrobagnoli.taxcodeconverter.service.TaxCodeConverterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.executable.ExecutableValidator;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectRequestValidationTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+
+  private TaxCodeMetrics taxCodeMetrics;
+
+  private DirectRequestValidation underTest;
+
+  @BeforeEach
+  void setUp() {
+    this.taxCodeMetrics = new TaxCodeMetrics(new SimpleMeterRegistry());
+    this.underTest = new DirectRequestValidation(CLOCK, taxCodeMetrics);
+  }
+
+  @Test
+  void shouldAcceptValidRequests() {
+    // given
+    var personData = CalculatePersonDataRequest.builder()
+        .taxCode("BGNLSN93P19H294L")
+        .build();
+    var taxCode = CalculateTaxCodeRequest.builder()
+        .gender(Gender.MALE)
+        .name("Alessandro")
+        .surname("Bagnoli")
+        .dateOfBirth(LocalDate.of(1993, 9, 19))
+        .country("Francia")
+        .build();
+
+    // when
+    underTest.validate(personData);
+    underTest.validate(taxCode);
+
+    // then no exception is thrown
+  }
+
+  @Test
+  void shouldReportEveryViolation() {
+    // given
+    var input = CalculateTaxCodeRequest.builder()
+        .gender(Gender.UNSPECIFIED)
+        .name("Alessandro")
+        .dateOfBirth(LocalDate.of(2024, 5, 1))
+        .birthPlace("Rimini")
+        .country("Francia")
+        .build();
+
+    // when
+    var actual = assertThrows(RequestValidationException.class, () -> underTest.validate(input));
+
+    // then
+    assertThat(actual.getViolations()).containsExactly(
+        "Invalid CalculateTaxCodeRequest: missing required property surname",
+        "Invalid CalculateTaxCodeRequest: property birthPlace must not be set together with country",
+        "Invalid CalculateTaxCodeRequest: invalid date for property dateOfBirth: it must be in the past",
+        "Invalid CalculateTaxCodeRequest: invalid value for property gender");
+    assertThat(actual).hasMessage(String.join(",", actual.getViolations()));
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(InvalidRequestsArgumentProvider.class)
+  void shouldMatchTheMethodValidation(String methodName, Object input) {
+    // given
+    var method = conversion(methodName, input.getClass());
+    var expected = methodValidator().validateParameters(new TaxCodeConverterService(null, null), method,
+            new Object[]{input}).stream()
+        .map(ConstraintViolation::getMessage)
+        .toList();
+
+    // when
+    var actual = assertThrows(RequestValidationException.class, () -> {
+      if (input instanceof CalculatePersonDataRequest personData) {
+        underTest.validate(personData);
+      } else {
+        underTest.validate((CalculateTaxCodeRequest) input);
+      }
+    });
+
+    // then
+    assertThat(actual.getViolations()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @SneakyThrows
+  private static Method conversion(String methodName, Class<?> requestType) {
+    return TaxCodeConverterService.class.getMethod(methodName, requestType);
+  }
+
+  // The ConstraintValidators as the method validation proxy runs them, with the same clock as the direct validation
+  private ExecutableValidator methodValidator() {
+    var factory = new ConstraintValidatorFactory() {
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        if (key == CalculateTaxCodeRequestValidator.class) {
+          return (T) new CalculateTaxCodeRequestValidator(CLOCK, taxCodeMetrics);
+        }
+        return (T) new CalculatePersonDataRequestValidator(taxCodeMetrics);
+      }
+
+      @Override
+      public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        // nothing to release
+      }
+
+    };
+    return Validation.byDefaultProvider()
+        .configure()
+        .constraintValidatorFactory(factory)
+        .buildValidatorFactory()
+        .getValidator()
+        .forExecutables();
+  }
+
+  static class InvalidRequestsArgumentProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<Arguments> provideArguments(ExtensionContext extensionContext) {
+      return Stream.of(
+          Arguments.of("fromTaxCodeToPerson", CalculatePersonDataRequest.builder().build()),
+          Arguments.of("fromTaxCodeToPerson", CalculatePersonDataRequest.builder()
+              .taxCode("BGNLSN93P19H294A")
+              .build()),
+          Arguments.of("fromPersonToTaxCode", CalculateTaxCodeRequest.builder().build()),
+          Arguments.of("fromPersonToTaxCode", CalculateTaxCodeRequest.builder()
+              .gender(Gender.FEMALE)
+              .name(" ")
+              .surname("Bagnoli")
+              .dateOfBirth(LocalDate.of(2030, 1, 1))
+              .birthPlace("Rimini")
+              .build()),
+          Arguments.of("fromPersonToTaxCode", CalculateTaxCodeRequest.builder()
+              .gender(Gender.MALE)
+              .name("Alessandro")
+              .surname("Bagnoli")
+              .dateOfBirth(LocalDate.of(1993, 9, 19))
+              .birthPlace("Rimini")
+              .province("RN")
+              .country("Francia")
+              .build())
+      );
+    }
+
+  }
+
+}